@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.concert"
@@ -24,10 +25,12 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     implementation("org.springframework.kafka:spring-kafka")
 
     // Database
-    runtimeOnly("org.postgresql:postgresql")
+    implementation("org.postgresql:postgresql")   // COPY 일괄 적재 (CopyManager)
 
     // Redis + Redisson
     implementation("org.redisson:redisson-spring-boot-starter:3.40.2")
@@ -37,6 +40,9 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
 
+    // Local Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Spring Retry
     implementation("org.springframework.retry:spring-retry")
     implementation("org.springframework:spring-aspects")
@@ -63,3 +69,45 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// ./gradlew jmh                             : 전체 벤치마크
+// ./gradlew jmh -Pjmh.includes=DtoMapping    : 이름(정규식)으로 선택
+// 결과: build/reports/jmh/results.json (실행 간 비교용), human.txt
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")   // 요청당 할당량 (gc.alloc.rate.norm, B/op)
+    jvmArgs = listOf("-Xms1g", "-Xmx1g")   // 힙 크기 고정 → GC 편차 최소화
+    resultFormat = "JSON"
+    resultsFile = project.file("build/reports/jmh/results.json")
+    humanOutputFile = project.file("build/reports/jmh/human.txt")
+    (project.findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+}
+
+// ./gradlew bootRun -Pvt : 가상 스레드 모드 + 피닝 진단 (JFR 기록은 build/vt-pinning.jfr)
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    if (project.hasProperty("vt")) {
+        systemProperty("spring.profiles.active", "vt")
+        jvmArgs(
+            "-Djdk.tracePinnedThreads=short",
+            "-XX:StartFlightRecording=filename=build/vt-pinning.jfr,settings=profile"
+        )
+    }
+}
+
+// ./gradlew perf : 전략별 부하 비교 (Testcontainers로 PostgreSQL/Redis/Kafka 기동, Docker 필요)
+// 옵션: -Pperf.strategies=pessimistic,distributed -Pperf.vus=100 -Pperf.mixed-vus=200
+//       -Pperf.mixed-duration=30 -Pperf.venue-seats=20000 -Pperf.venue-users=2000
+// 결과: build/reports/perf/perf-report.json
+tasks.register<JavaExec>("perf") {
+    group = "verification"
+    description = "예매 전략별 부하 비교 리포트 생성"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass = "com.concert.booking.perf.PerfHarness"
+    jvmArgs("-Xms1g", "-Xmx2g")
+    listOf("strategies", "vus", "mixed-vus", "mixed-duration", "venue-seats", "venue-users").forEach { key ->
+        project.findProperty("perf.$key")?.let { systemProperty("perf.$key", it) }
+    }
+    systemProperty("perf.report", layout.buildDirectory.file("reports/perf/perf-report.json").get().asFile.absolutePath)
+}
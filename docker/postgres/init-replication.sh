@@ -0,0 +1,4 @@
+#!/bin/bash
+# primary 최초 기동 시 1회 실행 (docker-entrypoint-initdb.d): 스트리밍 복제 접속 허용
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,21 @@
+#!/bin/bash
+# 스트리밍 복제 hot standby
+# - 데이터 디렉터리가 비어 있으면 primary에서 pg_basebackup (-R: standby.signal + primary_conninfo 생성)
+# - 환경 변수: PRIMARY_HOST, PRIMARY_PORT(기본 5432), POSTGRES_USER, POSTGRES_PASSWORD
+set -e
+
+export PGPASSWORD="$POSTGRES_PASSWORD"
+mkdir -p "$PGDATA"
+chown postgres:postgres "$PGDATA"
+chmod 700 "$PGDATA"
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until gosu postgres pg_basebackup -h "$PRIMARY_HOST" -p "${PRIMARY_PORT:-5432}" -U "$POSTGRES_USER" \
+      -D "$PGDATA" -R -X stream -P; do
+    echo "primary 대기 중..."
+    rm -rf "${PGDATA:?}"/*
+    sleep 1
+  done
+fi
+
+exec gosu postgres postgres -c hot_standby=on
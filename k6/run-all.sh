@@ -1,7 +1,7 @@
 #!/bin/bash
 #
 # k6 부하 테스트 자동 실행 스크립트
-# 3가지 전략 × 3가지 시나리오 × 3회 반복
+# 4가지 전략 × 3가지 시나리오 × 3회 반복
 #
 # 사용법:
 #   chmod +x k6/run-all.sh
@@ -19,7 +19,7 @@ RESULTS_DIR="$PROJECT_DIR/k6/results"
 SCHEDULE_ID="${SCHEDULE_ID:-1}"
 BASE_URL="${BASE_URL:-http://localhost:8080}"
 
-STRATEGIES=("pessimistic" "optimistic" "distributed")
+STRATEGIES=("pessimistic" "optimistic" "distributed" "ledger")
 SCENARIOS=("scenario-a" "scenario-b" "scenario-c")
 RUNS=3
 
@@ -0,0 +1,96 @@
+#!/bin/bash
+#
+# 플랫폼 스레드 vs 가상 스레드 비교 (시나리오 A~C)
+# 전략 × 스레드 모드 × 시나리오 × 반복
+#
+# 사용법:
+#   bash k6/run-vt-compare.sh
+#   STRATEGIES="pessimistic distributed" RUNS=1 bash k6/run-vt-compare.sh
+#
+# 결과: k6/results/vt/{mode}_{strategy}_{scenario}_run{n}_summary.json
+#       가상 스레드 모드의 피닝 기록: k6/results/vt/vt_{strategy}_pinning.jfr
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+PROJECT_DIR="$(dirname "$SCRIPT_DIR")"
+RESULTS_DIR="$PROJECT_DIR/k6/results/vt"
+SCHEDULE_ID="${SCHEDULE_ID:-1}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+
+read -r -a STRATEGIES <<< "${STRATEGIES:-pessimistic distributed}"
+MODES=("platform" "vt")
+SCENARIOS=("scenario-a" "scenario-b" "scenario-c")
+RUNS="${RUNS:-3}"
+
+mkdir -p "$RESULTS_DIR"
+
+wait_for_app() {
+    for i in $(seq 1 60); do
+        if curl -s -o /dev/null -w "%{http_code}" "$BASE_URL/api/auth/login" 2>/dev/null | grep -q "4"; then
+            echo "[INFO] 앱 준비 완료 (${i}초)"
+            return 0
+        fi
+        sleep 1
+    done
+    echo "[ERROR] 앱 시작 시간 초과"
+    return 1
+}
+
+for strategy in "${STRATEGIES[@]}"; do
+    for mode in "${MODES[@]}"; do
+        echo ""
+        echo "══════════════════════════════════════════"
+        echo " 전략: $strategy / 스레드 모드: $mode"
+        echo "══════════════════════════════════════════"
+
+        cd "$PROJECT_DIR"
+        VT_FLAG=""
+        if [ "$mode" = "vt" ]; then
+            VT_FLAG="-Pvt"
+        fi
+        ./gradlew bootRun $VT_FLAG -Dreservation.strategy="$strategy" > "$RESULTS_DIR/${mode}_${strategy}_app.log" 2>&1 &
+        APP_PID=$!
+
+        if ! wait_for_app; then
+            kill "$APP_PID" 2>/dev/null || true
+            exit 1
+        fi
+
+        for scenario in "${SCENARIOS[@]}"; do
+            for run in $(seq 1 "$RUNS"); do
+                curl -s -X POST "$BASE_URL/api/admin/reset?scheduleId=$SCHEDULE_ID" > /dev/null
+                sleep 1
+
+                echo "[RUN $run/$RUNS] $mode / $strategy / $scenario"
+                k6 run \
+                    --summary-export="$RESULTS_DIR/${mode}_${strategy}_${scenario}_run${run}_summary.json" \
+                    -e BASE_URL="$BASE_URL" \
+                    -e SCHEDULE_ID="$SCHEDULE_ID" \
+                    -e CONCERT_ID=1 \
+                    "$SCRIPT_DIR/${scenario}.js" > "$RESULTS_DIR/${mode}_${strategy}_${scenario}_run${run}.log" 2>&1
+                sleep 2
+            done
+        done
+
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+        if [ "$mode" = "vt" ] && [ -f "$PROJECT_DIR/build/vt-pinning.jfr" ]; then
+            mv "$PROJECT_DIR/build/vt-pinning.jfr" "$RESULTS_DIR/vt_${strategy}_pinning.jfr"
+        fi
+        sleep 3
+    done
+done
+
+# 요약: 모드별 p95 / 처리량 비교
+echo ""
+echo "mode      strategy      scenario     run  p95(ms)   req/s"
+for f in "$RESULTS_DIR"/*_summary.json; do
+    name="$(basename "$f" _summary.json)"
+    p95=$(jq -r '.metrics.http_req_duration["p(95)"] // 0' "$f")
+    rps=$(jq -r '.metrics.http_reqs.rate // 0' "$f")
+    printf "%-60s %8.1f %8.1f\n" "$name" "$p95" "$rps"
+done
+
+echo ""
+echo "피닝 분석: jfr print --events jdk.VirtualThreadPinned $RESULTS_DIR/vt_<strategy>_pinning.jfr"
@@ -0,0 +1,59 @@
+package com.concert.booking.common.interceptor;
+
+import com.concert.booking.dto.reservation.ReservationRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// POST /api/reservations 요청 1건당 body 처리 비용 비교 (gc 프로파일러로 B/op 함께 측정)
+// - legacy: CachedBodyFilter 복사 → 인터셉터 readTree(1바이트씩 read()) → 컨버터 역직렬화
+// - singleParse: 컨버터 역직렬화 1회 (QueueTokenRequestBodyAdvice가 결과 객체 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationRequestParseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        body = "{\"scheduleId\":42,\"seatIds\":[500001,500002,500003,500004]}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) throws IOException {
+        // CachedBodyRequestWrapper: 요청 body 전체 복사
+        byte[] cached = new ByteArrayInputStream(body).readAllBytes();
+
+        // QueueTokenInterceptor: read()만 구현한 스트림 → Jackson이 1바이트씩 읽음
+        JsonNode node = objectMapper.readTree(byteWise(cached));
+        bh.consume(node.get("scheduleId").asLong());
+
+        // MappingJackson2HttpMessageConverter: 같은 body 재역직렬화
+        bh.consume(objectMapper.readValue(byteWise(cached), ReservationRequest.class));
+    }
+
+    @Benchmark
+    public ReservationRequest singleParse() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(body), ReservationRequest.class);
+    }
+
+    private static InputStream byteWise(byte[] bytes) {
+        ByteArrayInputStream delegate = new ByteArrayInputStream(bytes);
+        return new InputStream() {
+            @Override
+            public int read() {
+                return delegate.read();
+            }
+        };
+    }
+}
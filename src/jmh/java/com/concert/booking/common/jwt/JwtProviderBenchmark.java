@@ -0,0 +1,63 @@
+package com.concert.booking.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 요청 1건당 JWT 인증 비용 비교
+// - legacy: validateToken + getUserId (parser 2회 생성 + HMAC 2회)
+// - singleParse: 재사용 parser로 1회 검증
+// - cached: 검증 완료 토큰 캐시 히트
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256";
+
+    private SecretKey secretKey;
+    private JwtProvider uncachedProvider;
+    private JwtProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedProvider = new JwtProvider(SECRET, 3_600_000, 0, Duration.ofMinutes(5));
+        cachedProvider = new JwtProvider(SECRET, 3_600_000, 10_000, Duration.ofMinutes(5));
+        token = cachedProvider.createToken(1L, "bench@test.com");
+        cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        // 변경 전 JwtAuthenticationFilter 경로 재현
+        bh.consume(legacyParse(token));
+        bh.consume(Long.parseLong(legacyParse(token).getSubject()));
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return uncachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public Object cached() {
+        return cachedProvider.verify(token);
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,33 @@
+package com.concert.booking.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청 경로에서 만드는 Redis key 조립 비용
+// - queueToken: 예매 요청 1건의 토큰 검증/소비 key
+// - idempotency: Idempotency-Key 응답 캐시 key
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisKeyUtilBenchmark {
+
+    private Long userId;
+    private Long scheduleId;
+
+    @Setup
+    public void setUp() {
+        userId = 98_765L;
+        scheduleId = 42L;
+    }
+
+    @Benchmark
+    public String queueToken() {
+        return RedisKeyUtil.tokenKey(userId, scheduleId);
+    }
+
+    @Benchmark
+    public String idempotency() {
+        return RedisKeyUtil.idempotencyKey(userId, "/api/reservations", "7d9f8a42-3c1e-4b6a-9f0e-2a5b8c7d6e1f");
+    }
+}
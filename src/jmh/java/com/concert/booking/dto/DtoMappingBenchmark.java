@@ -0,0 +1,80 @@
+package com.concert.booking.dto;
+
+import com.concert.booking.domain.Concert;
+import com.concert.booking.domain.ConcertSchedule;
+import com.concert.booking.domain.Reservation;
+import com.concert.booking.domain.Seat;
+import com.concert.booking.domain.User;
+import com.concert.booking.dto.concert.SeatResponse;
+import com.concert.booking.dto.reservation.ReservationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 DTO 매핑 비용 (엔티티 → record → JSON)
+// - 좌석 목록: 스케줄 1개 좌석 전체 매핑 (seatCount)
+// - 예매 응답: 예매 API 1건 응답
+// 엔티티는 영속화하지 않으므로 id/createdAt은 null (매핑 경로 자체 비용만 측정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"50", "1000"})
+    private int seatCount;
+
+    private ObjectMapper objectMapper;
+    private List<Seat> seats;
+    private Reservation reservation;
+    private ReservationResponse reservationResponse;
+
+    @Setup
+    public void setUp() {
+        // Spring MVC 기본 설정과 동일한 ObjectMapper (JavaTimeModule 등록)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Concert concert = Concert.create("벤치마크 콘서트", "설명", "장소", "아티스트");
+        ConcertSchedule schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(30), LocalTime.of(20, 0), seatCount);
+        seats = new ArrayList<>(seatCount);
+        for (int i = 0; i < seatCount; i++) {
+            seats.add(Seat.create(schedule, i < seatCount / 5 ? "VIP" : "R", i / 50 + 1, i % 50 + 1, 150_000));
+        }
+
+        User user = User.create("bench@test.com", "password", "벤치마커");
+        reservation = Reservation.create(user, schedule, 600_000, LocalDateTime.now().plusMinutes(5));
+        reservationResponse = ReservationResponse.from(reservation);
+    }
+
+    @Benchmark
+    public SeatResponse seatResponse() {
+        return SeatResponse.from(seats.get(0));
+    }
+
+    @Benchmark
+    public List<SeatResponse> seatList() {
+        return seats.stream().map(SeatResponse::from).toList();
+    }
+
+    @Benchmark
+    public String seatListJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(seats.stream().map(SeatResponse::from).toList());
+    }
+
+    @Benchmark
+    public ReservationResponse reservationResponse() {
+        return ReservationResponse.from(reservation);
+    }
+
+    @Benchmark
+    public String reservationResponseJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(reservationResponse);
+    }
+}
@@ -0,0 +1,101 @@
+package com.concert.booking.event.codec;
+
+import com.concert.booking.event.ReservationCancelledEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 만료 이벤트(reservation.cancelled) 1건당 인코딩/디코딩 비용 비교
+// - json: 변경 전 JsonSerializer/JsonDeserializer (타입 헤더 포함)
+// - binary: EventCodec
+// 이벤트당 바이트 수는 인코딩 벤치마크의 보조 지표(EncodedSize)로 결과에 함께 기록
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventCodecBenchmark {
+
+    private static final String TOPIC = "reservation.cancelled";
+
+    private JsonSerializer<Object> jsonSerializer;
+    private JsonDeserializer<Object> jsonDeserializer;
+    private BinaryEventSerializer binarySerializer;
+    private BinaryEventDeserializer binaryDeserializer;
+
+    private ReservationCancelledEvent event;
+    private RecordHeaders jsonHeaders;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new JsonSerializer<>();
+        jsonDeserializer = new JsonDeserializer<>();
+        jsonDeserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.concert.booking.event"), false);
+        binarySerializer = new BinaryEventSerializer();
+        binaryDeserializer = new BinaryEventDeserializer();
+
+        // 좌석 4석 예매 만료
+        event = new ReservationCancelledEvent(1_234_567L, 98_765L, 42L,
+                List.of(500_001L, 500_002L, 500_003L, 500_004L), 440_000, "EXPIRED");
+
+        jsonHeaders = new RecordHeaders();
+        jsonBytes = jsonSerializer.serialize(TOPIC, jsonHeaders, event);
+        binaryBytes = binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode(EncodedSize size) {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] bytes = jsonSerializer.serialize(TOPIC, headers, event);
+        size.bytes = bytes.length;
+        size.headerBytes = headerBytes(headers);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] binaryEncode(EncodedSize size) {
+        byte[] bytes = binarySerializer.serialize(TOPIC, event);
+        size.bytes = bytes.length;
+        size.headerBytes = 0;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return jsonDeserializer.deserialize(TOPIC, jsonHeaders, jsonBytes);
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return binaryDeserializer.deserialize(TOPIC, new RecordHeaders(), binaryBytes);
+    }
+
+    private static int headerBytes(RecordHeaders headers) {
+        int total = 0;
+        for (var header : headers) {
+            total += header.key().length() + header.value().length;
+        }
+        return total;
+    }
+
+    // 이벤트 1건 인코딩 결과 크기: results.json의 secondaryMetrics["bytes"], ["headerBytes"]
+    // 누적이 아니라 마지막 인코딩 값을 대입하므로 iteration마다 같은 값이 기록됨 (JSON은 타입 헤더 크기 별도)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long bytes;
+        public long headerBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            headerBytes = 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.concert.booking.service.reservation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 분산 락 전략 좌석 선점 KEYS 조립 비용 (재고 key + 좌석 4석 hold key)
+// - SeatClaimStore.keys를 직접 호출하므로 조립 방식이 바뀌면 측정에도 그대로 반영
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SeatClaimStoreBenchmark {
+
+    private Long scheduleId;
+    private List<Long> seatIds;
+
+    @Setup
+    public void setUp() {
+        scheduleId = 42L;
+        seatIds = List.of(500_001L, 500_002L, 500_003L, 500_004L);
+    }
+
+    @Benchmark
+    public List<String> seatClaimKeys() {
+        return SeatClaimStore.keys(scheduleId, seatIds);
+    }
+}
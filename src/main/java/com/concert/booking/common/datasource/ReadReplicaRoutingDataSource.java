@@ -0,0 +1,80 @@
+package com.concert.booking.common.datasource;
+
+import com.concert.booking.service.auth.CustomUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// readOnly 트랜잭션 → replica, 그 외 → primary
+// - LazyConnectionDataSourceProxy 뒤에서 사용: 첫 쿼리 시점(트랜잭션 readOnly 플래그 설정 후)에 대상 결정
+// - replica 지연 초과(ReplicaLagMonitor) 또는 직전 쓰기 사용자(ReadYourWritesTracker)는 primary
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+
+    private final Counter writeCounter;
+    private final Counter replicaCounter;
+    private final Counter lagFallbackCounter;
+    private final Counter readYourWritesCounter;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaLagMonitor lagMonitor,
+                                        ReadYourWritesTracker readYourWrites,
+                                        MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.writeCounter = routingCounter(meterRegistry, "primary", "write");
+        this.replicaCounter = routingCounter(meterRegistry, "replica", "read");
+        this.lagFallbackCounter = routingCounter(meterRegistry, "primary", "replica_lag");
+        this.readYourWritesCounter = routingCounter(meterRegistry, "primary", "read_your_writes");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.recordWriteOnCommit(currentUserId());
+            writeCounter.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            lagFallbackCounter.increment();
+            return Target.PRIMARY;
+        }
+        if (readYourWrites.recentlyWrote(currentUserId())) {
+            readYourWritesCounter.increment();
+            return Target.PRIMARY;
+        }
+        replicaCounter.increment();
+        return Target.REPLICA;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("커넥션 라우팅 대상")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,68 @@
+package com.concert.booking.common.datasource;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// 쓰기 커밋 직후 같은 사용자의 읽기는 primary로 (read-your-writes)
+// - 쓰기 트랜잭션 커밋 시 Redis 마커 rw:user:{id} (TTL = window) 기록 → 다른 서버로 간 다음 요청도 primary
+// - window는 replica 허용 지연(max-lag)보다 길게 설정 → 방금 쓴 데이터를 항상 읽음
+// - 이 노드에서 쓴 사용자는 로컬 캐시로 먼저 판별 (Redis 왕복 생략)
+// - Redis 장애 시 primary로 (지연 읽기보다 primary 부하가 안전)
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String MARKER = "1";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration window;
+    private final Cache<Long, Boolean> localWriters;
+
+    public ReadYourWritesTracker(RedisTemplate<String, String> redisTemplate, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.localWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    // 현재 쓰기 트랜잭션이 커밋되면 사용자 기록
+    public void recordWriteOnCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                localWriters.put(userId, Boolean.TRUE);
+                try {
+                    redisTemplate.opsForValue().set(RedisKeyUtil.recentWriteKey(userId), MARKER, window);
+                } catch (Exception e) {
+                    log.warn("쓰기 마커 기록 실패 (다른 서버의 읽기는 replica로 갈 수 있음): userId={}", userId, e);
+                }
+            }
+        });
+    }
+
+    public boolean recentlyWrote(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        if (localWriters.getIfPresent(userId) != null) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyUtil.recentWriteKey(userId)));
+        } catch (Exception e) {
+            log.warn("쓰기 마커 조회 실패 → primary: userId={}", userId, e);
+            return true;
+        }
+    }
+}
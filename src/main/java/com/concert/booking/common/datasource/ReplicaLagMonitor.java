@@ -0,0 +1,84 @@
+package com.concert.booking.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+// replica 복제 지연 감시: 지연이 max-lag를 넘거나 측정 실패 시 모든 읽기를 primary로
+// - primary WAL 위치까지 재생했으면 지연 0 (쓰기가 없을 때 마지막 재생 시각이 오래된 것을 지연으로 오판하지 않도록)
+// - 아니면 now() - 마지막 재생 트랜잭션 커밋 시각
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN pg_wal_lsn_diff(?::pg_lsn, pg_last_wal_replay_lsn()) <= 0 THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration maxLag;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("replica 복제 지연 (초, 측정 실패 시 NaN)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void check() {
+        try {
+            String primaryLsn;
+            try (Connection connection = primary.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT pg_current_wal_lsn()::text")) {
+                rs.next();
+                primaryLsn = rs.getString(1);
+            }
+
+            double lag;
+            try (Connection connection = replica.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(LAG_SQL)) {
+                statement.setString(1, primaryLsn);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    lag = rs.getDouble(1);
+                }
+            }
+
+            boolean usable = lag <= maxLag.toMillis() / 1000.0;
+            if (usable != replicaUsable) {
+                log.info("replica 읽기 {}: lag={}s (max={}s)", usable ? "재개" : "중단",
+                        lag, maxLag.toMillis() / 1000.0);
+            }
+            lagSeconds = lag;
+            replicaUsable = usable;
+        } catch (SQLException e) {
+            if (replicaUsable) {
+                log.warn("replica 지연 측정 실패 — 읽기를 primary로 전환", e);
+            }
+            lagSeconds = Double.NaN;
+            replicaUsable = false;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+}
@@ -0,0 +1,84 @@
+package com.concert.booking.common.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 가상 스레드 피닝 진단 (JFR jdk.VirtualThreadPinned 스트리밍)
+// - synchronized 구간/네이티브 프레임에서 블로킹되어 캐리어 스레드를 점유한 구간을 threshold 이상만 수집
+// - 피닝 위치 = 스택에서 JDK 내부가 아닌 첫 프레임 (애플리케이션 코드 또는 드라이버/클라이언트 라이브러리)
+// - jvm.threads.virtual.pinned{site} 카운터 + 지속 시간 타이머, 경고 로그
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Timer pinnedDuration;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${diagnostics.virtual-thread-pinning.threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.pinnedDuration = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("가상 스레드 피닝 지속 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 피닝 모니터 시작: threshold={}", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = pinnedSite(event);
+        Counter.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드 피닝 발생 수")
+                .tag("site", site)
+                .register(meterRegistry)
+                .increment();
+        pinnedDuration.record(event.getDuration());
+        log.warn("가상 스레드 피닝: site={}, duration={}ms", site, event.getDuration().toMillis());
+    }
+
+    private static String pinnedSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String className = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(className::startsWith)) {
+                return className + "." + frame.getMethod().getName();
+            }
+        }
+        return "jdk";
+    }
+}
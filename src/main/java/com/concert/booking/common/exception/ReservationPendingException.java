@@ -0,0 +1,11 @@
+package com.concert.booking.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+// 예매가 DB 반영 중이라 결과를 아직 알 수 없음 (이후 성공할 수 있음 → 내 예매 목록에서 확인)
+public class ReservationPendingException extends BusinessException {
+
+    public ReservationPendingException(String message) {
+        super(HttpStatus.CONFLICT, "RESERVATION_PENDING", message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.concert.booking.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+// 예매 요청이 처리되기 전에 대기 시간 초과로 취소됨 (좌석 점유 없음 → 재시도 가능)
+public class ReservationTimeoutException extends BusinessException {
+
+    public ReservationTimeoutException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "RESERVATION_TIMEOUT", message);
+    }
+}
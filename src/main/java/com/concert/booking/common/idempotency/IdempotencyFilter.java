@@ -0,0 +1,192 @@
+package com.concert.booking.common.idempotency;
+
+import com.concert.booking.common.exception.ErrorResponse;
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.service.auth.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+// Idempotency-Key 헤더 처리 (POST /api/reservations, POST /api/payments)
+// - 최초 요청: 처리 중 마커 선점 → 실행 → 최종 응답 저장
+// - 완료 후 재시도: 저장된 응답 재전송 (대기열 토큰 검증/락/트랜잭션 진입 없음)
+// - 동시 중복 요청: 최초 실행이 끝날 때까지 대기 후 같은 응답 재전송 (서버 간에도 Redis로 합류)
+// - 같은 키 + 다른 본문: 422 (최초 응답을 엉뚱한 요청의 결과로 재전송하지 않음)
+// 인증 필터 이후 실행 → 키는 사용자 + 경로 단위로 구분
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final long POLL_INTERVAL_MS = 20;
+    private static final long MAX_POLL_INTERVAL_MS = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper, Duration waitTimeout) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equalsIgnoreCase(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+            return;
+        }
+
+        // 미인증 요청은 키 범위를 정할 수 없으므로 그대로 통과 (보안 설정이 401 처리)
+        Long userId = currentUserId();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = RedisKeyUtil.idempotencyKey(userId, request.getRequestURI(), idempotencyKey);
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request);
+        String requestHash = IdempotencyStore.requestHash(cachedRequest.body());
+        String marker = IdempotencyStore.inFlightMarker(requestHash);
+
+        if (!idempotencyStore.tryStart(key, marker)) {
+            if (isReusedWhileInFlight(key, requestHash)) {
+                writeKeyReused(response);
+                return;
+            }
+            Optional<IdempotentResponse> stored = awaitCompletion(key);
+            if (stored.isPresent()) {
+                if (!requestHash.equals(stored.get().requestHash())) {
+                    writeKeyReused(response);
+                    return;
+                }
+                replay(response, stored.get());
+                return;
+            }
+            // 대기 중 최초 실행이 실패로 해제됨 → 이 요청이 다시 선점 시도
+            if (!idempotencyStore.tryStart(key, marker)) {
+                writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_IN_PROGRESS",
+                        "같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+                return;
+            }
+        }
+
+        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, wrappedResponse);
+            int status = wrappedResponse.getStatus();
+            if (isReplayable(status)) {
+                idempotencyStore.complete(key, marker, new IdempotentResponse(requestHash, status,
+                        wrappedResponse.getContentType(),
+                        new String(wrappedResponse.getContentAsByteArray(), StandardCharsets.UTF_8)));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyStore.release(key, marker);
+            }
+            wrappedResponse.copyBodyToResponse();
+        }
+    }
+
+    // 결과가 확정된 응답만 저장: 2xx + 업무 4xx (좌석 없음/상태 오류 등)
+    // 5xx, 인증/대기열 상태 오류(401/403), 429는 재시도 시 결과가 달라질 수 있으므로 저장하지 않음
+    private boolean isReplayable(int status) {
+        if (status >= 500) {
+            return false;
+        }
+        return status != 401 && status != 403 && status != 429;
+    }
+
+    // 처리 중인 최초 요청과 본문이 다르면 기다리지 않고 바로 거절
+    private boolean isReusedWhileInFlight(String key, String requestHash) {
+        Optional<String> value = idempotencyStore.get(key);
+        if (value.isEmpty() || !IdempotencyStore.isInFlight(value.get())) {
+            return false;
+        }
+        return !requestHash.equals(IdempotencyStore.inFlightHash(value.get()));
+    }
+
+    // 처리 중이면 완료될 때까지 polling (지수 증가, 최대 waitTimeout)
+    private Optional<IdempotentResponse> awaitCompletion(String key) throws IOException {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        long interval = POLL_INTERVAL_MS;
+        while (true) {
+            Optional<String> value = idempotencyStore.get(key);
+            if (value.isEmpty()) {
+                return Optional.empty();
+            }
+            if (!IdempotencyStore.isInFlight(value.get())) {
+                return Optional.of(idempotencyStore.parse(value.get()));
+            }
+            if (System.nanoTime() >= deadline) {
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("멱등 요청 대기 중단", e);
+            }
+            interval = Math.min(interval * 2, MAX_POLL_INTERVAL_MS);
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = stored.body().getBytes(StandardCharsets.UTF_8);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeKeyReused(HttpServletResponse response) throws IOException {
+        writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                "같은 Idempotency-Key가 다른 요청 본문으로 사용되었습니다.");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String code, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(code, message));
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
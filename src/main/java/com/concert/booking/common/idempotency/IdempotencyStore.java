@@ -0,0 +1,110 @@
+package com.concert.booking.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Idempotency-Key 상태 저장소 (Redis String)
+// - 처리 중: IN_FLIGHT:{본문 해시}:{실행 ID} 마커 (SET NX + 짧은 TTL → 서버 장애 시 자동 해제, 해제는 본인 마커만)
+// - 완료: 직렬화된 최종 응답 + 본문 해시 (TTL 동안 같은 키 재시도는 DB 접근 없이 재전송)
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    static final String IN_FLIGHT = "IN_FLIGHT";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = loadScript("redis/idempotency_release.lua");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration inFlightTtl;
+    private final Duration responseTtl;
+
+    public IdempotencyStore(RedisTemplate<String, String> redisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${idempotency.in-flight-ttl:30s}") Duration inFlightTtl,
+                            @Value("${idempotency.response-ttl:1h}") Duration responseTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.inFlightTtl = inFlightTtl;
+        this.responseTtl = responseTtl;
+    }
+
+    // 요청 본문 SHA-256 (같은 키를 다른 본문으로 재사용했는지 판별)
+    public static String requestHash(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
+    // 실행마다 고유한 처리 중 마커 (같은 본문의 재시도와도 구분되어야 해제 시 본인 마커만 지울 수 있음)
+    public static String inFlightMarker(String requestHash) {
+        return IN_FLIGHT + ":" + requestHash + ":" + UUID.randomUUID();
+    }
+
+    // 처리 중 마커 선점 (true → 이 요청이 최초 실행)
+    public boolean tryStart(String key, String marker) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, marker, inFlightTtl));
+    }
+
+    static boolean isInFlight(String value) {
+        return value.startsWith(IN_FLIGHT);
+    }
+
+    // 처리 중 마커에 기록된 본문 해시
+    static String inFlightHash(String value) {
+        return value.split(":", 3)[1];
+    }
+
+    // 저장된 상태: empty → 키 없음(만료/실패 후 해제), IN_FLIGHT:{해시}:{실행 ID} → 처리 중, 그 외 → 완료 응답
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    }
+
+    public void complete(String key, String marker, IdempotentResponse response) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), responseTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("멱등 응답 직렬화 실패: key={}", key, e);
+            release(key, marker);
+        }
+    }
+
+    // 일시적 실패(5xx 등) → 본인 마커일 때만 해제, 같은 키 재시도 시 다시 실행
+    // (마커 TTL 초과 후 재시도가 선점한 마커를 지우면 세 번째 중복 요청이 동시에 실행됨)
+    public boolean release(String key, String marker) {
+        Long deleted = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), marker);
+        return deleted != null && deleted > 0;
+    }
+
+    public IdempotentResponse parse(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotentResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 응답 역직렬화 실패", e);
+        }
+    }
+
+    private static RedisScript<Long> loadScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,11 @@
+package com.concert.booking.common.idempotency;
+
+// Idempotency-Key로 저장한 최종 응답 (재시도 시 그대로 재전송)
+// requestHash: 최초 요청 본문 해시 (다른 본문으로 같은 키 재사용 시 422)
+public record IdempotentResponse(
+        String requestHash,
+        int status,
+        String contentType,
+        String body
+) {
+}
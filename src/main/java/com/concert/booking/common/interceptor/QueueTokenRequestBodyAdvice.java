@@ -0,0 +1,62 @@
+package com.concert.booking.common.interceptor;
+
+import com.concert.booking.common.exception.InvalidQueueTokenException;
+import com.concert.booking.dto.reservation.ReservationRequest;
+import com.concert.booking.service.auth.CustomUserDetails;
+import com.concert.booking.service.queue.QueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+// 예매 요청 대기열 토큰 검증 (POST /api/reservations)
+// 메시지 컨버터가 body를 ReservationRequest로 1회 역직렬화한 직후 실행 → body 캐싱/재파싱 없음
+@ControllerAdvice
+@RequiredArgsConstructor
+public class QueueTokenRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    private final QueueService queueService;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return targetType == ReservationRequest.class;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        // 1. X-Queue-Token 헤더에서 토큰 추출 (없으면 대기열 미사용 → 통과)
+        String token = inputMessage.getHeaders().getFirst(QUEUE_TOKEN_HEADER);
+        if (token == null || token.isBlank()) {
+            return body;
+        }
+
+        // 2. SecurityContext에서 userId 추출
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            throw new InvalidQueueTokenException("인증 정보를 확인할 수 없습니다.");
+        }
+
+        // 3. 역직렬화된 요청에서 scheduleId 추출
+        Long scheduleId = ((ReservationRequest) body).scheduleId();
+        if (scheduleId == null) {
+            throw new InvalidQueueTokenException("스케줄 정보를 확인할 수 없습니다.");
+        }
+
+        // 4. 토큰 검증
+        if (!queueService.validateToken(userDetails.getUserId(), scheduleId, token)) {
+            throw new InvalidQueueTokenException("유효하지 않은 대기열 토큰입니다.");
+        }
+
+        return body;
+    }
+}
@@ -0,0 +1,11 @@
+package com.concert.booking.common.jwt;
+
+import java.time.Instant;
+
+// 서명 검증이 끝난 JWT에서 필요한 클레임만 추린 불변 객체
+public record JwtPrincipal(
+        Long userId,
+        String email,
+        Instant expiresAt
+) {
+}
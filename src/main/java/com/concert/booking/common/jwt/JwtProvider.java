@@ -1,5 +1,8 @@
 package com.concert.booking.common.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,18 +10,40 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Component
 public class JwtProvider {
 
     private final SecretKey secretKey;
     private final long expiration;
+    private final JwtParser parser;
+
+    // 검증 완료 토큰 캐시 (토큰 SHA-256 → 클레임), 원문 토큰은 힙에 보관하지 않음, 만료 시각은 토큰 exp를 넘지 않음
+    private final Cache<String, JwtPrincipal> verifiedTokens;
 
     public JwtProvider(@Value("${jwt.secret}") String secret,
-                       @Value("${jwt.expiration}") long expiration) {
+                       @Value("${jwt.expiration}") long expiration,
+                       @Value("${jwt.verified-cache.max-size:10000}") long cacheMaxSize,
+                       @Value("${jwt.verified-cache.max-ttl:5m}") Duration cacheMaxTtl) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expiration = expiration;
+        // JwtParser는 불변 + 스레드 안전 → 1회 생성 후 재사용
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = cacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfter(new ClampedExpiry(cacheMaxTtl))
+                        .build()
+                : null;
     }
 
     public String createToken(Long userId, String email) {
@@ -34,25 +59,78 @@ public class JwtProvider {
                 .compact();
     }
 
+    // 1회 파싱으로 검증 + 클레임 추출, 유효하지 않으면 empty
+    public Optional<JwtPrincipal> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String tokenHash = null;
+        if (verifiedTokens != null) {
+            tokenHash = tokenHash(token);
+            JwtPrincipal cached = verifiedTokens.getIfPresent(tokenHash);
+            // 캐시 TTL과 별개로 exp 재확인 (만료 직후 요청 차단)
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached);
+            }
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            // exp 없는 토큰은 만료되지 않으므로 서명이 유효해도 거부
+            Date expiresAt = claims.getExpiration();
+            if (expiresAt == null) {
+                return Optional.empty();
+            }
+            JwtPrincipal principal = new JwtPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    expiresAt.toInstant()
+            );
+            if (verifiedTokens != null) {
+                verifiedTokens.put(tokenHash, principal);
+            }
+            return Optional.of(principal);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 검증 실패 토큰은 캐시하지 않음
+            return Optional.empty();
+        }
+    }
+
     public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
-        return Long.parseLong(claims.getSubject());
+        return verify(token)
+                .map(JwtPrincipal::userId)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
     }
 
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    private static String tokenHash(String token) {
         try {
-            parseClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
         }
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    // 항목별 만료: min(토큰 exp까지 남은 시간, 최대 TTL)
+    private record ClampedExpiry(Duration maxTtl) implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, JwtPrincipal principal, long currentTime) {
+            long untilExp = Duration.between(Instant.now(), principal.expiresAt()).toNanos();
+            return Math.max(0, Math.min(untilExp, maxTtl.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -10,12 +10,27 @@ public final class RedisKeyUtil {
         return "queue:schedule:" + scheduleId;
     }
 
+    // 대기 인원이 있는 스케줄 목록 (Set) — 입장 스케줄러 순회용
+    public static String queueIndexKey() {
+        return "queue:schedules";
+    }
+
+    // 스케줄별 입장 속도 수동 설정 (Hash: scheduleId → 1회 입장 인원)
+    public static String admissionRateKey() {
+        return "queue:admission:rate";
+    }
+
     // 입장 토큰 (String + TTL)
     public static String tokenKey(Long userId, Long scheduleId) {
-        return "token:queue:" + userId + ":" + scheduleId;
+        return tokenKeyPrefix() + userId + ":" + scheduleId;
+    }
+
+    // 입장 토큰 key prefix (Lua 스크립트에서 userId로 key 조립)
+    public static String tokenKeyPrefix() {
+        return "token:queue:";
     }
 
-    // 활성 처리 카운터
+    // 활성 집합 (Sorted Set: userId, score = 토큰 만료 시각) — 입장 인원 상한 관리
     public static String activeKey(Long scheduleId) {
         return "active:schedule:" + scheduleId;
     }
@@ -29,4 +44,48 @@ public final class RedisKeyUtil {
     public static String seatHoldKey(Long seatId) {
         return "hold:seat:" + seatId;
     }
+
+    // 좌석 배치도 버전 (String, INCR) — 좌석 상태 변경 커밋마다 증가
+    public static String seatMapVersionKey(Long scheduleId) {
+        return "seatmap:version:" + scheduleId;
+    }
+
+    // 좌석 배치도 직렬화 스냅샷 (String JSON + TTL) — 버전별 key
+    public static String seatMapKey(Long scheduleId, long version) {
+        return "seatmap:schedule:" + scheduleId + ":v" + version;
+    }
+
+    // 좌석 가용성 비트맵 (String bitmap, bit = seatId - 기준 seatId, 1 = HELD/RESERVED)
+    public static String seatBitmapKey(Long scheduleId) {
+        return "seat:bitmap:schedule:" + scheduleId;
+    }
+
+    // 좌석 비트맵 변경 카운터 (String INCR) — 재구성 중 발생한 변경 감지용
+    public static String seatBitmapVersionKey(Long scheduleId) {
+        return "seat:bitmap:version:" + scheduleId;
+    }
+
+    // 좌석 원장 소유 노드 (String + TTL) — ledger 전략에서 스케줄당 1개 노드만 예매 결정
+    public static String ledgerOwnerKey(Long scheduleId) {
+        return "ledger:owner:schedule:" + scheduleId;
+    }
+
+    // 좌석 점유 만료 지연 큐 (Sorted Set: reservationId, score = 만료 시각 epoch ms)
+    public static String holdExpiryQueueKey() {
+        return "hold:expiry:queue";
+    }
+
+    // 지연 큐에서 꺼내 처리 중인 예매 (Sorted Set: reservationId, score = 처리 기한 epoch ms)
+    public static String holdExpiryProcessingKey() {
+        return "hold:expiry:processing";
+    }
+
+    // Idempotency-Key 응답 캐시 (String: 처리 중 마커 또는 직렬화된 최종 응답 + TTL)
+    public static String idempotencyKey(Long userId, String path, String idempotencyKey) {
+        return "idem:" + userId + ":" + path + ":" + idempotencyKey;
+    }
+
+    public static String recentWriteKey(Long userId) {
+        return "rw:user:" + userId;
+    }
 }
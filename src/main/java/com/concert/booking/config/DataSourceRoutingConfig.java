@@ -0,0 +1,124 @@
+package com.concert.booking.config;
+
+import com.concert.booking.common.datasource.ReadReplicaRoutingDataSource;
+import com.concert.booking.common.datasource.ReadYourWritesTracker;
+import com.concert.booking.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+// 읽기 전용 replica 라우팅 (datasource.replica.enabled=true)
+// - primary: spring.datasource (+ spring.datasource.hikari), replica: datasource.replica (+ datasource.replica.hikari)
+// - @Transactional(readOnly = true) → replica 풀, 예매/결제 등 쓰기 트랜잭션 → primary 풀
+// - 비활성 시 이 설정 전체가 빠지고 Spring Boot 기본 DataSource 하나만 사용
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    // @ServiceConnection(테스트 컨테이너) 등록 시 그 접속 정보, 아니면 spring.datasource.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(ObjectProvider<JdbcConnectionDetails> connectionDetails,
+                                              DataSourceProperties properties) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        if (details == null) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(details.getDriverClassName())
+                .url(details.getJdbcUrl())
+                .username(details.getUsername())
+                .password(details.getPassword())
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username}") String username,
+                                              @Value("${datasource.replica.password}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${datasource.replica.max-lag:1s}") Duration maxLag,
+                                               MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, maxLag, meterRegistry);
+        // 첫 측정 전까지는 replica 미사용 → 기동 직후 1회 측정
+        monitor.check();
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${datasource.replica.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesTracker(redisTemplate, window);
+    }
+
+    // 실제 커넥션은 첫 쿼리 시점에 획득 → 라우팅 시점에 트랜잭션 readOnly 플래그가 설정되어 있음
+    @Bean
+    @Primary
+    public LazyConnectionDataSourceProxy dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                    @Qualifier("replicaDataSource") DataSource replica,
+                                                    ReplicaLagMonitor lagMonitor,
+                                                    ReadYourWritesTracker readYourWrites,
+                                                    MeterRegistry meterRegistry) {
+        ReadReplicaRoutingDataSource routing =
+                new ReadReplicaRoutingDataSource(primary, replica, lagMonitor, readYourWrites, meterRegistry);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(routing);
+        // 기본값을 지정해 프록시 초기화 시 커넥션을 미리 열지 않음 (Hikari 기본 autoCommit, PostgreSQL 기본 격리 수준)
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    @Bean
+    public ReplicaLagCheckScheduler replicaLagCheckScheduler(ReplicaLagMonitor lagMonitor) {
+        return new ReplicaLagCheckScheduler(lagMonitor);
+    }
+
+    static class ReplicaLagCheckScheduler {
+
+        private final ReplicaLagMonitor lagMonitor;
+
+        ReplicaLagCheckScheduler(ReplicaLagMonitor lagMonitor) {
+            this.lagMonitor = lagMonitor;
+        }
+
+        @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+        public void check() {
+            lagMonitor.check();
+        }
+    }
+}
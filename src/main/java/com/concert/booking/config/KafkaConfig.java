@@ -1,5 +1,7 @@
 package com.concert.booking.config;
 
+import com.concert.booking.event.codec.BinaryEventDeserializer;
+import com.concert.booking.event.codec.BinaryEventSerializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -7,6 +9,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
@@ -24,14 +27,28 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    // 프로듀서 값 포맷: json | binary (Consumer는 두 포맷 모두 읽음 → 전체 배포 완료 후 binary로 전환)
+    @Value("${kafka.event-codec:json}")
+    private String eventCodec;
+
+    // 가상 스레드 모드: 리스너 컨테이너 스레드도 가상 스레드로 (직접 정의한 팩토리는 Boot 자동 설정 대상이 아님)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
+                "json".equals(eventCodec) ? JsonSerializer.class : BinaryEventSerializer.class);
         props.put(ProducerConfig.ACKS_CONFIG, "all");
         props.put(ProducerConfig.RETRIES_CONFIG, 3);
+        // 아웃박스 릴레이 배치 발행: 5ms 동안 모아 파티션별 배치 전송
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
+        // 브로커 장애 시 send() 블로킹 상한 (릴레이 트랜잭션이 DB 커넥션을 오래 잡지 않도록)
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5000);
         return new DefaultKafkaProducerFactory<>(props);
     }
 
@@ -45,9 +62,10 @@ public class KafkaConfig {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, BinaryEventDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        // JSON 메시지(구버전 프로듀서) 역직렬화용
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.concert.booking.event");
         return new DefaultKafkaConsumerFactory<>(props);
     }
@@ -59,10 +77,37 @@ public class KafkaConfig {
         factory.setConsumerFactory(consumerFactory());
         factory.setConcurrency(3);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        configureListenerExecutor(factory, "kafka-listener-");
 
         // 3회 재시도 후 DLT 전송
         factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 3)));
 
         return factory;
     }
+
+    // 배치 리스너: poll 1회분 이벤트를 한 번에 전달 (대량 만료 시 좌석 반환을 트랜잭션 1개로 처리)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(3);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        configureListenerExecutor(factory, "kafka-batch-listener-");
+
+        // 배치 전체 3회 재시도 (반환 UPDATE는 멱등)
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 3)));
+
+        return factory;
+    }
+
+    private void configureListenerExecutor(ConcurrentKafkaListenerContainerFactory<String, Object> factory,
+                                           String threadNamePrefix) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+    }
 }
@@ -1,8 +1,11 @@
 package com.concert.booking.config;
 
 import com.concert.booking.service.reservation.DistributedLockReservationService;
+import com.concert.booking.service.reservation.LedgerReservationService;
+import com.concert.booking.service.reservation.MeteredReservationService;
 import com.concert.booking.service.reservation.OptimisticLockReservationService;
 import com.concert.booking.service.reservation.PessimisticLockReservationService;
+import com.concert.booking.service.reservation.ReservationMetrics;
 import com.concert.booking.service.reservation.ReservationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,13 +23,21 @@ public class ReservationStrategyConfig {
             @Value("${reservation.strategy:pessimistic}") String strategy,
             PessimisticLockReservationService pessimistic,
             OptimisticLockReservationService optimistic,
-            DistributedLockReservationService distributed) {
-        ReservationService selected = switch (strategy) {
+            DistributedLockReservationService distributed,
+            LedgerReservationService ledger,
+            ReservationMetrics metrics) {
+        String tag = switch (strategy) {
+            case "optimistic", "distributed", "ledger" -> strategy;
+            default -> "pessimistic";
+        };
+        ReservationService selected = switch (tag) {
             case "optimistic" -> optimistic;
             case "distributed" -> distributed;
+            case "ledger" -> ledger;
             default -> pessimistic;
         };
         log.info("예매 전략 선택: {} → {}", strategy, selected.getClass().getSimpleName());
-        return selected;
+        // 결과별 건수/응답 시간은 전략 공통으로 감싸서 기록
+        return new MeteredReservationService(tag, selected, metrics);
     }
 }
@@ -1,92 +1,35 @@
 package com.concert.booking.config;
 
-import com.concert.booking.common.interceptor.QueueTokenInterceptor;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ReadListener;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletInputStream;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletRequestWrapper;
-import jakarta.servlet.http.HttpServletResponse;
+import com.concert.booking.common.idempotency.IdempotencyFilter;
+import com.concert.booking.common.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
+import java.time.Duration;
 
+// 대기열 토큰 검증은 QueueTokenRequestBodyAdvice가 역직렬화된 ReservationRequest로 처리 (body 1회 파싱)
 @Configuration
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
-    private final QueueTokenInterceptor queueTokenInterceptor;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
 
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(queueTokenInterceptor)
-                .addPathPatterns("/api/reservations");
-    }
+    @Value("${idempotency.wait-timeout:5s}")
+    private Duration idempotencyWaitTimeout;
 
-    // 요청 body를 여러 번 읽을 수 있도록 CachedBodyRequestWrapper로 래핑
+    // Idempotency-Key 중복 요청 차단 (인증 필터 이후, 대기열 토큰 검증/컨트롤러 이전)
     @Bean
-    public FilterRegistrationBean<CachedBodyFilter> cachedBodyFilter() {
-        FilterRegistrationBean<CachedBodyFilter> registration = new FilterRegistrationBean<>();
-        registration.setFilter(new CachedBodyFilter());
-        registration.addUrlPatterns("/api/reservations");
-        registration.setOrder(1);
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter() {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new IdempotencyFilter(idempotencyStore, objectMapper, idempotencyWaitTimeout));
+        registration.addUrlPatterns("/api/reservations", "/api/payments");
+        registration.setOrder(0);
         return registration;
     }
-
-    static class CachedBodyFilter extends OncePerRequestFilter {
-        @Override
-        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
-                                        FilterChain filterChain) throws ServletException, IOException {
-            CachedBodyRequestWrapper wrappedRequest = new CachedBodyRequestWrapper(request);
-            filterChain.doFilter(wrappedRequest, response);
-        }
-    }
-
-    // 요청 body를 즉시 읽어 캐싱하는 래퍼
-    static class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
-        private final byte[] cachedBody;
-
-        CachedBodyRequestWrapper(HttpServletRequest request) throws IOException {
-            super(request);
-            this.cachedBody = request.getInputStream().readAllBytes();
-        }
-
-        @Override
-        public ServletInputStream getInputStream() {
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(cachedBody);
-            return new ServletInputStream() {
-                @Override
-                public boolean isFinished() {
-                    return byteArrayInputStream.available() == 0;
-                }
-
-                @Override
-                public boolean isReady() {
-                    return true;
-                }
-
-                @Override
-                public void setReadListener(ReadListener readListener) {
-                    // no-op
-                }
-
-                @Override
-                public int read() {
-                    return byteArrayInputStream.read();
-                }
-            };
-        }
-
-        public byte[] getCachedBody() {
-            return cachedBody;
-        }
-    }
 }
@@ -1,78 +1,119 @@
 package com.concert.booking.consumer;
 
 import com.concert.booking.common.util.RedisKeyUtil;
-import com.concert.booking.domain.Reservation;
-import com.concert.booking.domain.ReservationSeat;
 import com.concert.booking.domain.SeatStatus;
 import com.concert.booking.event.ReservationCancelledEvent;
-import com.concert.booking.repository.ReservationRepository;
+import com.concert.booking.event.SeatStatusChangedEvent;
 import com.concert.booking.repository.ReservationSeatRepository;
+import com.concert.booking.repository.SeatRepository;
+import com.concert.booking.repository.SeatRepository.ReleasedSeat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SeatReleaseConsumer {
 
-    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
     private final ReservationSeatRepository reservationSeatRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @KafkaListener(topics = "reservation.cancelled", groupId = "seat-release")
-    @Transactional
-    public void handleCancelledReservation(ReservationCancelledEvent event, Acknowledgment ack) {
-        log.info("좌석 반환 이벤트 수신: reservationId={}, reason={}", event.reservationId(), event.reason());
+    // poll 1회분 이벤트를 트랜잭션 1개로 처리
+    // 이벤트에 실린 seatIds로 UPDATE 1회 (예매/좌석 엔티티 재조회 없음) → 커밋 후 Redis 정리를 파이프라인 1회로 전송
+    // seatIds 없는 이벤트(필드 추가 전 발행분)는 reservation_seats 조회로 보완
+    @KafkaListener(topics = "reservation.cancelled", groupId = "seat-release",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleCancelledReservations(List<ReservationCancelledEvent> events, Acknowledgment ack) {
+        Set<Long> seatIds = new LinkedHashSet<>();
+        List<Long> reservationIdsWithoutSeats = new ArrayList<>();
+        for (ReservationCancelledEvent event : events) {
+            log.debug("좌석 반환 이벤트 수신: reservationId={}, reason={}", event.reservationId(), event.reason());
+            if (event.seatIds() != null) {
+                seatIds.addAll(event.seatIds());
+            } else {
+                reservationIdsWithoutSeats.add(event.reservationId());
+            }
+        }
 
         try {
-            Reservation reservation = reservationRepository.findById(event.reservationId())
-                    .orElse(null);
+            if (!reservationIdsWithoutSeats.isEmpty()) {
+                log.warn("seatIds 없는 좌석 반환 이벤트 → reservation_seats 조회로 보완: reservationIds={}", reservationIdsWithoutSeats);
+                reservationSeatRepository.findSeatIdsByReservationIdIn(reservationIdsWithoutSeats)
+                        .forEach(row -> seatIds.add(row.getSeatId()));
+            }
 
-            if (reservation == null) {
-                log.warn("예매를 찾을 수 없습니다: reservationId={}", event.reservationId());
+            if (seatIds.isEmpty()) {
                 ack.acknowledge();
                 return;
             }
 
-            // 좌석 반환
-            List<ReservationSeat> reservationSeats = reservationSeatRepository.findByReservationId(event.reservationId());
-            int releasedCount = 0;
-
-            for (ReservationSeat rs : reservationSeats) {
-                // 멱등성: 이미 AVAILABLE이면 skip
-                if (rs.getSeat().getStatus() == SeatStatus.HELD) {
-                    rs.getSeat().release();
-                    releasedCount++;
-
-                    // Redis 좌석 홀드 삭제
-                    redisTemplate.delete(RedisKeyUtil.seatHoldKey(rs.getSeat().getId()));
+            // 멱등성: HELD인 좌석만 반환 (이미 AVAILABLE이거나 재점유된 좌석은 제외)
+            List<ReleasedSeat> released = transactionTemplate.execute(status -> {
+                List<ReleasedSeat> rows = seatRepository.releaseHeldSeats(seatIds);
+                // 벌크 UPDATE는 엔티티 리스너를 거치지 않으므로 직접 발행 (커밋 후 캐시/비트맵/원장/잔여 좌석 수 갱신)
+                for (ReleasedSeat row : rows) {
+                    eventPublisher.publishEvent(
+                            new SeatStatusChangedEvent(row.getScheduleId(), row.getSeatId(), SeatStatus.AVAILABLE));
                 }
-            }
-
-            // 잔여 좌석 복원
-            if (releasedCount > 0) {
-                reservation.getSchedule().increaseAvailableSeats(releasedCount);
+                return rows;
+            });
 
-                // Redis 재고 복원
-                String stockKey = RedisKeyUtil.stockKey(event.scheduleId());
-                redisTemplate.opsForValue().increment(stockKey, releasedCount);
+            if (released != null && !released.isEmpty()) {
+                try {
+                    cleanUpRedis(released);
+                } catch (Exception e) {
+                    // DB 반환은 이미 커밋됨 → 재시도해도 반환 대상이 없으므로 로그만 (홀드 key는 TTL로 만료)
+                    log.warn("좌석 반환 Redis 정리 실패: releasedCount={}", released.size(), e);
+                }
             }
 
-            log.info("좌석 반환 완료: reservationId={}, releasedCount={}", event.reservationId(), releasedCount);
+            log.info("좌석 반환 완료: events={}, releasedCount={}", events.size(), released == null ? 0 : released.size());
 
             // manual commit
             ack.acknowledge();
 
         } catch (Exception e) {
-            log.error("좌석 반환 처리 실패: reservationId={}", event.reservationId(), e);
+            log.error("좌석 반환 처리 실패: events={}", events.size(), e);
             throw e; // 재시도 트리거
         }
     }
+
+    // 좌석 홀드 삭제 + 스케줄별 재고 복원 (스케줄당 INCRBY 1회) → 파이프라인 1 RTT
+    private void cleanUpRedis(List<ReleasedSeat> released) {
+        Map<Long, Integer> releasedBySchedule = new HashMap<>();
+        for (ReleasedSeat row : released) {
+            releasedBySchedule.merge(row.getScheduleId(), 1, Integer::sum);
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.delete(released.stream().map(row -> RedisKeyUtil.seatHoldKey(row.getSeatId())).toList());
+                releasedBySchedule.forEach((scheduleId, count) ->
+                        ops.opsForValue().increment(RedisKeyUtil.stockKey(scheduleId), count));
+                return null;
+            }
+        });
+    }
 }
@@ -2,8 +2,11 @@ package com.concert.booking.controller;
 
 import com.concert.booking.common.util.RedisKeyUtil;
 import com.concert.booking.domain.ConcertSchedule;
-import com.concert.booking.domain.Seat;
 import com.concert.booking.repository.*;
+import com.concert.booking.service.concert.SeatAvailabilityBitmap;
+import com.concert.booking.service.concert.SeatTakenCache;
+import com.concert.booking.service.concert.SeatMapCache;
+import com.concert.booking.service.queue.AdmissionRateController;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -29,6 +32,10 @@ public class AdminController {
     private final SeatRepository seatRepository;
     private final ConcertScheduleRepository concertScheduleRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final AdmissionRateController admissionRateController;
+    private final SeatMapCache seatMapCache;
+    private final SeatAvailabilityBitmap seatAvailabilityBitmap;
+    private final SeatTakenCache seatTakenCache;
 
     @PostMapping("/reset")
     @Transactional
@@ -40,8 +47,9 @@ public class AdminController {
         reservationSeatRepository.deleteByScheduleId(scheduleId);
         reservationRepository.deleteByScheduleId(scheduleId);
 
-        // 2. 좌석 상태 초기화
+        // 2. 좌석 상태 초기화 (네이티브 UPDATE → 엔티티 리스너 미동작, 배치도 캐시 직접 무효화)
         seatRepository.resetSeatsByScheduleId(scheduleId);
+        seatMapCache.invalidateAfterCommit(scheduleId);
 
         // 3. 스케줄 잔여 좌석 복원
         concertScheduleRepository.resetAvailableSeats(scheduleId);
@@ -53,6 +61,17 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
 
+    // 스케줄별 입장 속도(1초당 입장 인원) 수동 설정
+    @PostMapping("/queue/admission-rate")
+    public ResponseEntity<Void> setAdmissionRate(@RequestParam Long scheduleId, @RequestParam int rate) {
+        if (rate < 1) {
+            throw new IllegalArgumentException("입장 속도는 1 이상이어야 합니다.");
+        }
+        admissionRateController.setRate(scheduleId, rate);
+        log.info("입장 속도 설정: scheduleId={}, rate={}", scheduleId, rate);
+        return ResponseEntity.ok().build();
+    }
+
     private void resetRedis(Long scheduleId) {
         // 재고 키 삭제
         redisTemplate.delete(RedisKeyUtil.stockKey(scheduleId));
@@ -61,10 +80,16 @@ public class AdminController {
         redisTemplate.delete(RedisKeyUtil.queueKey(scheduleId));
         redisTemplate.delete(RedisKeyUtil.activeKey(scheduleId));
 
-        // 좌석 홀드 키 삭제
-        List<Seat> seats = seatRepository.findByScheduleId(scheduleId);
-        for (Seat seat : seats) {
-            redisTemplate.delete(RedisKeyUtil.seatHoldKey(seat.getId()));
+        // 좌석 비트맵 삭제 (다음 조회 시 DB 기준 재구성)
+        seatAvailabilityBitmap.evictAfterCommit(scheduleId);
+        seatTakenCache.clear();
+
+        // 좌석 홀드 키 삭제 (대형 공연장 대비 DEL 1회로 일괄 삭제)
+        List<String> holdKeys = seatRepository.findByScheduleId(scheduleId).stream()
+                .map(seat -> RedisKeyUtil.seatHoldKey(seat.getId()))
+                .toList();
+        if (!holdKeys.isEmpty()) {
+            redisTemplate.delete(holdKeys);
         }
 
         // 토큰 키 삭제 (패턴 매칭)
@@ -2,9 +2,11 @@ package com.concert.booking.controller;
 
 import com.concert.booking.dto.concert.ConcertResponse;
 import com.concert.booking.dto.concert.ConcertScheduleResponse;
-import com.concert.booking.dto.concert.SeatResponse;
+import com.concert.booking.dto.concert.SeatAvailabilityResponse;
 import com.concert.booking.service.concert.ConcertService;
+import com.concert.booking.service.concert.SeatMapSnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -36,8 +38,19 @@ public class ConcertController {
     }
 
     @GetMapping("/{id}/schedules/{scheduleId}/seats")
-    public ResponseEntity<List<SeatResponse>> getSeats(@PathVariable Long id,
-                                                        @PathVariable Long scheduleId) {
-        return ResponseEntity.ok(concertService.getSeats(id, scheduleId));
+    public ResponseEntity<byte[]> getSeats(@PathVariable Long id,
+                                           @PathVariable Long scheduleId) {
+        // 캐시된 직렬화 본문을 그대로 응답 (List<SeatResponse> JSON과 동일 형식)
+        SeatMapSnapshot seatMap = concertService.getSeats(id, scheduleId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(seatMap.json());
+    }
+
+    // 좌석 가용성 비트맵 (좌석 배치도 경량 폴링용)
+    @GetMapping("/{id}/schedules/{scheduleId}/seats/availability")
+    public ResponseEntity<SeatAvailabilityResponse> getSeatAvailability(@PathVariable Long id,
+                                                                        @PathVariable Long scheduleId) {
+        return ResponseEntity.ok(concertService.getSeatAvailability(id, scheduleId));
     }
 }
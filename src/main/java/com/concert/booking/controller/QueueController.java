@@ -1,9 +1,12 @@
 package com.concert.booking.controller;
 
+import com.concert.booking.common.exception.QueueNotReadyException;
 import com.concert.booking.dto.queue.QueueEnterRequest;
 import com.concert.booking.dto.queue.QueuePositionResponse;
 import com.concert.booking.dto.queue.QueueTokenResponse;
 import com.concert.booking.service.auth.CustomUserDetails;
+import com.concert.booking.service.queue.QueueAdmissionResult;
+import com.concert.booking.service.queue.QueuePositionBroadcaster;
 import com.concert.booking.service.queue.QueueService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,11 +18,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-
 @Slf4j
 @RestController
 @RequestMapping("/api/queue")
@@ -27,9 +25,7 @@ import java.util.concurrent.TimeUnit;
 public class QueueController {
 
     private final QueueService queueService;
-
-    private static final int ENTRY_THRESHOLD = 100;
-    private static final long SSE_TIMEOUT = 5 * 60 * 1000L; // 5분
+    private final QueuePositionBroadcaster queuePositionBroadcaster;
 
     // POST /api/queue/enter — 대기열 진입
     @PostMapping("/enter")
@@ -49,55 +45,12 @@ public class QueueController {
         return ResponseEntity.ok(response);
     }
 
-    // GET /api/queue/events — SSE 실시간 순번 스트림
+    // GET /api/queue/events — SSE 실시간 순번 스트림 (공유 tick 팬아웃)
     @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamPosition(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam Long scheduleId) {
-
-        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-        Long userId = userDetails.getUserId();
-
-        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-
-        // 매 1초마다 순위 전송
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                QueuePositionResponse position = queueService.getPosition(userId, scheduleId);
-
-                if (position.position() == 0) {
-                    // 대기열에서 이미 제거됨 (토큰 발급 완료)
-                    emitter.send(SseEmitter.event()
-                            .name("COMPLETED")
-                            .data("대기열에서 제거되었습니다."));
-                    emitter.complete();
-                    scheduler.shutdown();
-                    return;
-                }
-
-                emitter.send(SseEmitter.event()
-                        .name("POSITION")
-                        .data(position));
-
-                // 순위 ≤ threshold → READY 이벤트 전송
-                if (position.position() <= ENTRY_THRESHOLD) {
-                    emitter.send(SseEmitter.event()
-                            .name("READY")
-                            .data("입장 가능합니다. 토큰을 발급받아주세요."));
-                    emitter.complete();
-                    scheduler.shutdown();
-                }
-            } catch (IOException e) {
-                emitter.completeWithError(e);
-                scheduler.shutdown();
-            }
-        }, 0, 1, TimeUnit.SECONDS);
-
-        emitter.onCompletion(scheduler::shutdown);
-        emitter.onTimeout(scheduler::shutdown);
-        emitter.onError(e -> scheduler.shutdown());
-
-        return emitter;
+        return queuePositionBroadcaster.subscribe(userDetails.getUserId(), scheduleId);
     }
 
     // GET /api/queue/token — 입장 토큰 발급
@@ -105,7 +58,15 @@ public class QueueController {
     public ResponseEntity<QueueTokenResponse> issueToken(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam Long scheduleId) {
-        QueueTokenResponse response = queueService.issueToken(userDetails.getUserId(), scheduleId);
-        return ResponseEntity.ok(response);
+        QueueAdmissionResult result = queueService.admit(userDetails.getUserId(), scheduleId);
+
+        if (result.status() == QueueAdmissionResult.Status.NOT_IN_QUEUE) {
+            throw new QueueNotReadyException("대기열에 없습니다. 먼저 대기열에 진입해주세요.");
+        }
+        if (result.status() == QueueAdmissionResult.Status.NOT_READY) {
+            throw new QueueNotReadyException("아직 입장 순서가 아닙니다. 현재 순번: " + result.position());
+        }
+
+        return ResponseEntity.ok(new QueueTokenResponse(result.token(), scheduleId));
     }
 }
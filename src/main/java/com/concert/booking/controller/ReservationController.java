@@ -4,9 +4,12 @@ import com.concert.booking.dto.reservation.ReservationDetailResponse;
 import com.concert.booking.dto.reservation.ReservationRequest;
 import com.concert.booking.dto.reservation.ReservationResponse;
 import com.concert.booking.service.auth.CustomUserDetails;
+import com.concert.booking.service.concert.SeatTakenCache;
+import com.concert.booking.service.queue.QueueService;
 import com.concert.booking.service.reservation.ReservationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,18 +17,24 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/reservations")
 @RequiredArgsConstructor
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final SeatTakenCache seatTakenCache;
+    private final QueueService queueService;
 
     @PostMapping
     public ResponseEntity<ReservationResponse> reserve(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody ReservationRequest request) {
+        // 점유 좌석 선검사 (로컬 캐시 → Redis 비트맵): 이미 점유된 좌석은 DB 트랜잭션/락 진입 전에 거절
+        seatTakenCache.assertNotTaken(request.scheduleId(), request.seatIds());
         ReservationResponse response = reservationService.reserve(userDetails.getUserId(), request);
+        consumeQueueToken(userDetails.getUserId(), request.scheduleId());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -47,4 +56,14 @@ public class ReservationController {
         reservationService.cancelReservation(userDetails.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
+
+    // 예매 성공 → 대기열 토큰 소비 + 활성 집합 슬롯 반환 (전략 공통, 다음 입장 인원 확보)
+    // 예매는 이미 커밋됨 → 실패해도 응답은 성공, 슬롯은 토큰 TTL로 회수
+    private void consumeQueueToken(Long userId, Long scheduleId) {
+        try {
+            queueService.consumeToken(userId, scheduleId);
+        } catch (RuntimeException e) {
+            log.warn("대기열 토큰 소비 실패: userId={}, scheduleId={}", userId, scheduleId, e);
+        }
+    }
 }
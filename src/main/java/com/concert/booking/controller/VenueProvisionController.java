@@ -0,0 +1,30 @@
+package com.concert.booking.controller;
+
+import com.concert.booking.dto.admin.VenueProvisionRequest;
+import com.concert.booking.dto.admin.VenueProvisionResponse;
+import com.concert.booking.service.venue.VenueProvisioner;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 대형 공연장 스케줄 + 부하 테스트용 회원 일괄 생성 (COPY)
+// 고정 비밀번호 회원을 최대 200만 명 만들 수 있으므로 loadtest 프로파일에서만 노출 (/api/admin/** 는 인증 없음)
+@Profile("loadtest")
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class VenueProvisionController {
+
+    private final VenueProvisioner venueProvisioner;
+
+    @PostMapping("/venues")
+    public ResponseEntity<VenueProvisionResponse> provisionVenue(@Valid @RequestBody VenueProvisionRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(venueProvisioner.provision(request));
+    }
+}
@@ -56,17 +56,4 @@ public class ConcertSchedule {
         schedule.availableSeats = totalSeats;
         return schedule;
     }
-
-    // 잔여 좌석 감소
-    public void decreaseAvailableSeats(int count) {
-        if (this.availableSeats < count) {
-            throw new IllegalStateException("잔여 좌석이 부족합니다.");
-        }
-        this.availableSeats -= count;
-    }
-
-    // 잔여 좌석 복원
-    public void increaseAvailableSeats(int count) {
-        this.availableSeats += count;
-    }
 }
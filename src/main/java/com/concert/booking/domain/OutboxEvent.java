@@ -0,0 +1,51 @@
+package com.concert.booking.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 트랜잭셔널 아웃박스: 비즈니스 변경과 같은 트랜잭션에 기록 → OutboxRelay가 Kafka 발행 후 삭제
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    // 만료 청크처럼 한 트랜잭션에 수백 건 기록 → INSERT JDBC 배치
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "event_key", nullable = false, length = 100)
+    private String eventKey;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static OutboxEvent create(String topic, String eventKey, String eventType, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.topic = topic;
+        event.eventKey = eventKey;
+        event.eventType = eventType;
+        event.payload = payload;
+        return event;
+    }
+}
@@ -12,12 +12,15 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "reservations")
+@EntityListeners(ReservationHoldListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 + pooled optimizer (allocationSize = 시퀀스 INCREMENT) → INSERT JDBC 배치 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservations_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "reservation_key", nullable = false, unique = true)
@@ -0,0 +1,23 @@
+package com.concert.booking.domain;
+
+import com.concert.booking.event.ReservationHeldEvent;
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Reservation 엔티티 리스너: 예매 생성 시 내부 이벤트 발행 (모든 예매 전략 공통)
+// (Hibernate가 SpringBeanContainer를 통해 스프링 빈으로 생성)
+@Component
+@RequiredArgsConstructor
+public class ReservationHoldListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPersist(Reservation reservation) {
+        if (reservation.getStatus() == ReservationStatus.PENDING && reservation.getExpiresAt() != null) {
+            eventPublisher.publishEvent(new ReservationHeldEvent(reservation.getId(), reservation.getExpiresAt()));
+        }
+    }
+}
@@ -12,7 +12,9 @@ import lombok.NoArgsConstructor;
 public class ReservationSeat {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 + pooled optimizer (allocationSize = 시퀀스 INCREMENT) → INSERT JDBC 배치 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seat_seq")
+    @SequenceGenerator(name = "reservation_seat_seq", sequenceName = "reservation_seats_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -9,12 +9,15 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "seats")
+@EntityListeners(SeatStatusListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Seat {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 + pooled optimizer (allocationSize = 시퀀스 INCREMENT) → INSERT JDBC 배치 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_seq")
+    @SequenceGenerator(name = "seat_seq", sequenceName = "seats_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,26 @@
+package com.concert.booking.domain;
+
+import com.concert.booking.event.SeatStatusChangedEvent;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Seat 엔티티 리스너: hold/release/reserve 등 상태 변경이 flush될 때 내부 이벤트 발행
+// (Hibernate가 SpringBeanContainer를 통해 스프링 빈으로 생성)
+@Component
+@RequiredArgsConstructor
+public class SeatStatusListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void onUpdate(Seat seat) {
+        // LAZY 프록시의 getId()는 초기화 없이 식별자만 반환
+        eventPublisher.publishEvent(new SeatStatusChangedEvent(
+                seat.getSchedule().getId(),
+                seat.getId(),
+                seat.getStatus()
+        ));
+    }
+}
@@ -0,0 +1,55 @@
+package com.concert.booking.dto.admin;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// 대형 공연장 프로비저닝 요청 (구역 템플릿 → 좌석 일괄 생성 + 부하 테스트용 회원 일괄 생성)
+public record VenueProvisionRequest(
+        @NotBlank(message = "공연 제목은 필수입니다.")
+        String title,
+
+        @NotEmpty(message = "구역을 1개 이상 지정해주세요.")
+        @Size(max = 50, message = "구역은 최대 50개까지 지정할 수 있습니다.")
+        List<@Valid @NotNull Section> sections,
+
+        @Min(value = 0, message = "회원 수는 0 이상이어야 합니다.")
+        @Max(value = 2_000_000, message = "회원은 최대 2,000,000명까지 생성할 수 있습니다.")
+        int userCount
+) {
+
+    public record Section(
+            // COPY CSV 이스케이프 없이 쓰도록 영문/숫자/-/_ 만 허용 (seats.section VARCHAR(10))
+            @NotNull(message = "구역 이름은 필수입니다.")
+            @Pattern(regexp = "[A-Za-z0-9_-]{1,10}", message = "구역 이름은 영문/숫자 10자 이내입니다.")
+            String name,
+
+            @Min(value = 1, message = "열 수는 1 이상이어야 합니다.")
+            @Max(value = 1_000, message = "열 수는 1,000 이하여야 합니다.")
+            int rows,
+
+            @Min(value = 1, message = "열당 좌석 수는 1 이상이어야 합니다.")
+            @Max(value = 1_000, message = "열당 좌석 수는 1,000 이하여야 합니다.")
+            int seatsPerRow,
+
+            @Min(value = 0, message = "가격은 0 이상이어야 합니다.")
+            int price
+    ) {
+
+        // 검증 전 호출에도 int 오버플로로 상한 검사를 우회하지 않도록 long + exact 연산
+        public long seatCount() {
+            return Math.multiplyExact((long) rows, (long) seatsPerRow);
+        }
+    }
+
+    public long seatCount() {
+        return sections.stream().mapToLong(Section::seatCount).reduce(0L, Math::addExact);
+    }
+}
@@ -0,0 +1,12 @@
+package com.concert.booking.dto.admin;
+
+public record VenueProvisionResponse(
+        Long concertId,
+        Long scheduleId,
+        int seatCount,
+        Long firstSeatId,
+        int userCount,
+        String userEmailPattern,
+        long elapsedMillis
+) {
+}
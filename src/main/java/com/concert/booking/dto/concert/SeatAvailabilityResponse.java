@@ -0,0 +1,10 @@
+package com.concert.booking.dto.concert;
+
+// 좌석 가용성 비트맵 응답
+// bitmap: Base64, bit i (바이트 내 MSB 우선) = 좌석 (baseSeatId + i), 1 = HELD/RESERVED
+public record SeatAvailabilityResponse(
+        Long baseSeatId,
+        int seatCount,
+        String bitmap
+) {
+}
@@ -0,0 +1,10 @@
+package com.concert.booking.event;
+
+import java.time.LocalDateTime;
+
+// 예매 생성(좌석 임시 점유) 내부 이벤트 — 커밋 후 만료 지연 큐 등록
+public record ReservationHeldEvent(
+        Long reservationId,
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.concert.booking.event;
+
+import com.concert.booking.domain.SeatStatus;
+
+// 애플리케이션 내부 이벤트 (Kafka 미발행) — 좌석 상태 변경 커밋 후 캐시/파생 데이터 갱신용
+public record SeatStatusChangedEvent(
+        Long scheduleId,
+        Long seatId,
+        SeatStatus status
+) {
+}
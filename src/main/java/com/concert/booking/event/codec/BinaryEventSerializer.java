@@ -0,0 +1,20 @@
+package com.concert.booking.event.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+// Kafka value serializer: EventCodec 바이너리 포맷 (타입 헤더 없음)
+public class BinaryEventSerializer implements Serializer<Object> {
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return EventCodec.encode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("이벤트 인코딩 실패: topic=" + topic, e);
+        }
+    }
+}
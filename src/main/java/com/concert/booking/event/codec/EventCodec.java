@@ -0,0 +1,278 @@
+package com.concert.booking.event.codec;
+
+import com.concert.booking.event.ReservationCancelledEvent;
+import com.concert.booking.event.ReservationCompletedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Kafka 이벤트 바이너리 코덱
+// [magic 1B][version 1B][type 1B][field...]
+// - field = varint 태그(fieldNo << 3 | wireType) + 값, null 필드는 생략
+// - wireType 0 = zigzag varint (Long/Integer/LocalDateTime), 2 = 길이 + 바이트 (String, List<Long> packed)
+// - 스키마 변경: 새 필드는 새 번호로 추가 (구버전 디코더는 모르는 번호를 건너뜀, 신버전은 누락 필드를 null로)
+// - version은 필드 의미가 바뀌는 비호환 변경 시에만 증가
+public final class EventCodec {
+
+    // JSON 메시지는 '{'(0x7B)로 시작 → 첫 바이트로 포맷 판별 (롤링 업그레이드 중 혼재)
+    public static final byte MAGIC = (byte) 0xCE;
+    public static final byte VERSION = 1;
+
+    private static final byte TYPE_RESERVATION_CANCELLED = 1;
+    private static final byte TYPE_RESERVATION_COMPLETED = 2;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_BYTES = 2;
+
+    private EventCodec() {
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= 3 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(Object event) {
+        Writer w = new Writer(64);
+        w.writeByte(MAGIC);
+        w.writeByte(VERSION);
+
+        if (event instanceof ReservationCancelledEvent e) {
+            w.writeByte(TYPE_RESERVATION_CANCELLED);
+            w.longField(1, e.reservationId());
+            w.longField(2, e.userId());
+            w.longField(3, e.scheduleId());
+            w.longListField(4, e.seatIds());
+            w.longField(5, e.totalAmount() == null ? null : e.totalAmount().longValue());
+            w.stringField(6, e.reason());
+        } else if (event instanceof ReservationCompletedEvent e) {
+            w.writeByte(TYPE_RESERVATION_COMPLETED);
+            w.longField(1, e.reservationId());
+            w.longField(2, e.userId());
+            w.longField(3, e.scheduleId());
+            w.longField(4, e.totalAmount() == null ? null : e.totalAmount().longValue());
+            w.longField(5, toEpochMicros(e.confirmedAt()));
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 이벤트 타입: " + event.getClass().getName());
+        }
+        return w.toByteArray();
+    }
+
+    public static Object decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new IllegalArgumentException("바이너리 이벤트 형식이 아닙니다.");
+        }
+        if (data[1] > VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 이벤트 코덱 버전: " + data[1]);
+        }
+
+        Reader r = new Reader(data, 3);
+        return switch (data[2]) {
+            case TYPE_RESERVATION_CANCELLED -> decodeCancelled(r);
+            case TYPE_RESERVATION_COMPLETED -> decodeCompleted(r);
+            default -> throw new IllegalArgumentException("알 수 없는 이벤트 타입: " + data[2]);
+        };
+    }
+
+    private static ReservationCancelledEvent decodeCancelled(Reader r) {
+        Long reservationId = null;
+        Long userId = null;
+        Long scheduleId = null;
+        List<Long> seatIds = List.of();
+        Integer totalAmount = null;
+        String reason = null;
+
+        while (r.hasRemaining()) {
+            int tag = (int) r.readVarint();
+            switch (tag >>> 3) {
+                case 1 -> reservationId = r.readZigZag();
+                case 2 -> userId = r.readZigZag();
+                case 3 -> scheduleId = r.readZigZag();
+                case 4 -> seatIds = r.readLongList();
+                case 5 -> totalAmount = (int) r.readZigZag();
+                case 6 -> reason = r.readString();
+                default -> r.skip(tag & 0x7);
+            }
+        }
+        return new ReservationCancelledEvent(reservationId, userId, scheduleId, seatIds, totalAmount, reason);
+    }
+
+    private static ReservationCompletedEvent decodeCompleted(Reader r) {
+        Long reservationId = null;
+        Long userId = null;
+        Long scheduleId = null;
+        Integer totalAmount = null;
+        LocalDateTime confirmedAt = null;
+
+        while (r.hasRemaining()) {
+            int tag = (int) r.readVarint();
+            switch (tag >>> 3) {
+                case 1 -> reservationId = r.readZigZag();
+                case 2 -> userId = r.readZigZag();
+                case 3 -> scheduleId = r.readZigZag();
+                case 4 -> totalAmount = (int) r.readZigZag();
+                case 5 -> confirmedAt = fromEpochMicros(r.readZigZag());
+                default -> r.skip(tag & 0x7);
+            }
+        }
+        return new ReservationCompletedEvent(reservationId, userId, scheduleId, totalAmount, confirmedAt);
+    }
+
+    // LocalDateTime → UTC 기준 epoch 마이크로초 (DB TIMESTAMP 정밀도)
+    private static Long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static final class Writer {
+
+        private byte[] buf;
+        private int pos;
+
+        Writer(int capacity) {
+            this.buf = new byte[capacity];
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            buf[pos++] = (byte) b;
+        }
+
+        void writeVarint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[pos++] = (byte) value;
+        }
+
+        void writeZigZag(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeBytes(byte[] bytes, int length) {
+            ensure(length);
+            System.arraycopy(bytes, 0, buf, pos, length);
+            pos += length;
+        }
+
+        void longField(int fieldNo, Long value) {
+            if (value == null) {
+                return;
+            }
+            writeVarint((long) fieldNo << 3 | WIRE_VARINT);
+            writeZigZag(value);
+        }
+
+        void stringField(int fieldNo, String value) {
+            if (value == null) {
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint((long) fieldNo << 3 | WIRE_BYTES);
+            writeVarint(bytes.length);
+            writeBytes(bytes, bytes.length);
+        }
+
+        void longListField(int fieldNo, List<Long> values) {
+            if (values == null || values.isEmpty()) {
+                return;
+            }
+            Writer packed = new Writer(values.size() * 4);
+            for (Long value : values) {
+                packed.writeZigZag(value);
+            }
+            writeVarint((long) fieldNo << 3 | WIRE_BYTES);
+            writeVarint(packed.pos);
+            writeBytes(packed.buf, packed.pos);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+
+        private void ensure(int length) {
+            if (pos + length > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + length));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf, int offset) {
+            this.buf = buf;
+            this.pos = offset;
+        }
+
+        boolean hasRemaining() {
+            return pos < buf.length;
+        }
+
+        long readVarint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (pos >= buf.length) {
+                    throw new IllegalArgumentException("잘린 이벤트 데이터");
+                }
+                byte b = buf[pos++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint");
+        }
+
+        long readZigZag() {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            int length = readLength();
+            String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        List<Long> readLongList() {
+            int end = readLength() + pos;
+            List<Long> values = new ArrayList<>();
+            while (pos < end) {
+                values.add(readZigZag());
+            }
+            return values;
+        }
+
+        void skip(int wireType) {
+            switch (wireType) {
+                case WIRE_VARINT -> readVarint();
+                case WIRE_BYTES -> pos += readLength();
+                default -> throw new IllegalArgumentException("알 수 없는 wire type: " + wireType);
+            }
+        }
+
+        private int readLength() {
+            long length = readVarint();
+            if (length < 0 || pos + length > buf.length) {
+                throw new IllegalArgumentException("잘린 이벤트 데이터");
+            }
+            return (int) length;
+        }
+    }
+}
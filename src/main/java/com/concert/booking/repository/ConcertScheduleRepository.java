@@ -1,23 +1,25 @@
 package com.concert.booking.repository;
 
 import com.concert.booking.domain.ConcertSchedule;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface ConcertScheduleRepository extends JpaRepository<ConcertSchedule, Long> {
 
     List<ConcertSchedule> findByConcertId(Long concertId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT cs FROM ConcertSchedule cs WHERE cs.id = :id")
-    Optional<ConcertSchedule> findByIdForUpdate(@Param("id") Long id);
+    // 잔여 좌석 수 재집계 (좌석 상태 기준 파생 값, 예매 트랜잭션은 스케줄 행을 잠그지 않음)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE concert_schedules
+            SET available_seats = (SELECT COUNT(*) FROM seats WHERE schedule_id = :id AND status = 'AVAILABLE')
+            WHERE id = :id
+            """)
+    int refreshAvailableSeats(@Param("id") Long scheduleId);
 
     @Modifying
     @Query("UPDATE ConcertSchedule cs SET cs.availableSeats = cs.totalSeats WHERE cs.id = :id")
@@ -0,0 +1,16 @@
+package com.concert.booking.repository;
+
+import com.concert.booking.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 발행 대기 이벤트를 기록 순서대로 조회 (SKIP LOCKED: 서버 2대의 relay가 서로 다른 행을 가져감)
+    @Query(nativeQuery = true,
+            value = "SELECT * FROM outbox_events ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED")
+    List<OutboxEvent> findBatchForRelay(@Param("limit") int limit);
+}
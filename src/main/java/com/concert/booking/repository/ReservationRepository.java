@@ -1,22 +1,63 @@
 package com.concert.booking.repository;
 
 import com.concert.booking.domain.Reservation;
-import com.concert.booking.domain.ReservationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
     List<Reservation> findByUserId(Long userId);
 
-    List<Reservation> findByStatusAndExpiresAtBefore(ReservationStatus status, LocalDateTime dateTime);
+    // 만료 대상 청크를 PENDING → EXPIRED로 일괄 전환하고 이벤트 발행용 컬럼만 반환
+    // keyset(id > :afterId) + SKIP LOCKED: 엔티티 로딩 없이 1 쿼리, 취소/결제 중인 행은 건너뜀
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            UPDATE reservations SET status = 'EXPIRED'
+            WHERE id IN (
+                SELECT id FROM reservations
+                WHERE status = 'PENDING' AND expires_at < :now AND id > :afterId
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id AS "id", user_id AS "userId", schedule_id AS "scheduleId", total_amount AS "totalAmount"
+            """)
+    List<ExpiredReservation> expirePendingChunk(@Param("now") LocalDateTime now,
+                                                @Param("afterId") long afterId,
+                                                @Param("limit") int limit);
+
+    // 지연 큐가 claim한 예매 중 만료 시각이 지난 PENDING만 EXPIRED로 전환 (결제/취소된 예매는 제외)
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            UPDATE reservations SET status = 'EXPIRED'
+            WHERE id IN (:ids) AND status = 'PENDING' AND expires_at <= :now
+            RETURNING id AS "id", user_id AS "userId", schedule_id AS "scheduleId", total_amount AS "totalAmount"
+            """)
+    List<ExpiredReservation> expirePendingByIds(@Param("ids") Collection<Long> ids,
+                                                @Param("now") LocalDateTime now);
+
+    // 만료 지연: 만료 시각이 지났는데 아직 PENDING인 예매 중 가장 오래된 만료 시각
+    @Query("SELECT MIN(r.expiresAt) FROM Reservation r WHERE r.status = 'PENDING' AND r.expiresAt < :now")
+    LocalDateTime findOldestOverdueExpiresAt(@Param("now") LocalDateTime now);
 
     @Modifying
     @Query("DELETE FROM Reservation r WHERE r.schedule.id = :scheduleId")
     void deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    interface ExpiredReservation {
+        Long getId();
+
+        Long getUserId();
+
+        Long getScheduleId();
+
+        Integer getTotalAmount();
+    }
 }
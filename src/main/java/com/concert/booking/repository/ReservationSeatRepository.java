@@ -12,8 +12,18 @@ public interface ReservationSeatRepository extends JpaRepository<ReservationSeat
 
     List<ReservationSeat> findByReservationId(Long reservationId);
 
+    // 예매 ID 목록의 좌석 ID만 조회 (엔티티 로딩 없음)
+    @Query("SELECT rs.reservation.id AS reservationId, rs.seat.id AS seatId FROM ReservationSeat rs WHERE rs.reservation.id IN :reservationIds")
+    List<SeatIdRow> findSeatIdsByReservationIdIn(@Param("reservationIds") List<Long> reservationIds);
+
     @Modifying
     @Query(nativeQuery = true,
             value = "DELETE FROM reservation_seats WHERE reservation_id IN (SELECT id FROM reservations WHERE schedule_id = :scheduleId)")
     void deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    interface SeatIdRow {
+        Long getReservationId();
+
+        Long getSeatId();
+    }
 }
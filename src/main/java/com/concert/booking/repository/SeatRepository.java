@@ -9,14 +9,30 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SeatRepository extends JpaRepository<Seat, Long> {
 
     List<Seat> findByScheduleId(Long scheduleId);
 
+    // ID만 조회 (엔티티 로드/영속성 컨텍스트 적재 없음)
+    @Query("SELECT s.id FROM Seat s WHERE s.schedule.id = :scheduleId ORDER BY s.id")
+    List<Long> findIdsByScheduleId(@Param("scheduleId") Long scheduleId);
+
     List<Seat> findByScheduleIdAndStatus(Long scheduleId, SeatStatus status);
 
+    // 좌석 가용성 비트맵 구성용: 스케줄 좌석 ID 범위
+    @Query("SELECT MIN(s.id) FROM Seat s WHERE s.schedule.id = :scheduleId")
+    Long findMinIdByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    @Query("SELECT MAX(s.id) FROM Seat s WHERE s.schedule.id = :scheduleId")
+    Long findMaxIdByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    // 좌석 가용성 비트맵 구성용: 점유(HELD/RESERVED) 좌석 ID
+    @Query("SELECT s.id FROM Seat s WHERE s.schedule.id = :scheduleId AND s.status <> 'AVAILABLE'")
+    List<Long> findUnavailableIdsByScheduleId(@Param("scheduleId") Long scheduleId);
+
     // 비관적 락: 좌석 ID 목록으로 AVAILABLE 좌석 조회 + FOR UPDATE
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM Seat s WHERE s.id IN :seatIds AND s.status = 'AVAILABLE' ORDER BY s.id")
@@ -26,8 +42,28 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
     @Query("SELECT s FROM Seat s WHERE s.id IN :seatIds AND s.status = 'AVAILABLE' ORDER BY s.id")
     List<Seat> findAllByIdInAndAvailable(@Param("seatIds") List<Long> seatIds);
 
+    // 취소/만료 좌석 일괄 반환: HELD → AVAILABLE (@Version 증가로 동시 낙관적 락 갱신과 충돌 감지)
+    // 다른 PENDING 예매가 다시 점유한 좌석은 제외 (이미 반환 후 재판매된 좌석을 늦게 도착한 이벤트가 풀지 않도록)
+    @Query(nativeQuery = true, value = """
+            UPDATE seats s SET status = 'AVAILABLE', version = s.version + 1
+            WHERE s.id IN (:seatIds) AND s.status = 'HELD'
+              AND NOT EXISTS (
+                  SELECT 1 FROM reservation_seats rs
+                  JOIN reservations r ON r.id = rs.reservation_id
+                  WHERE rs.seat_id = s.id AND r.status = 'PENDING'
+              )
+            RETURNING s.id AS "seatId", s.schedule_id AS "scheduleId"
+            """)
+    List<ReleasedSeat> releaseHeldSeats(@Param("seatIds") Collection<Long> seatIds);
+
     @Modifying
     @Query(nativeQuery = true,
             value = "UPDATE seats SET status = 'AVAILABLE', version = 0 WHERE schedule_id = :scheduleId")
     void resetSeatsByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    interface ReleasedSeat {
+        Long getSeatId();
+
+        Long getScheduleId();
+    }
 }
@@ -31,7 +31,9 @@ public class AuthService {
         userRepository.save(user);
     }
 
-    @Transactional(readOnly = true)
+    // primary에서 조회: 가입 직후 로그인은 아직 replica에 복제되지 않았을 수 있고,
+    // 미인증 요청이라 사용자 단위 read-your-writes 라우팅도 적용되지 않음
+    @Transactional
     public LoginResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new UnauthorizedException("이메일 또는 비밀번호가 일치하지 않습니다."));
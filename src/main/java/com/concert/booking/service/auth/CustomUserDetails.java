@@ -8,24 +8,41 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
-public record CustomUserDetails(User user) implements UserDetails {
+// 인증 주체: JWT 클레임만으로 생성 (요청마다 users 테이블 조회 없음)
+public record CustomUserDetails(
+        Long userId,
+        String email,
+        String password
+) implements UserDetails {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    // JWT 클레임 기반 (비밀번호 없음)
+    public static CustomUserDetails fromClaims(Long userId, String email) {
+        return new CustomUserDetails(userId, email, null);
+    }
+
+    // DB 엔티티 기반
+    public static CustomUserDetails from(User user) {
+        return new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword());
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return AUTHORITIES;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return String.valueOf(user.getId());
+        return String.valueOf(userId);
     }
 
     public Long getUserId() {
-        return user.getId();
+        return userId;
     }
 }
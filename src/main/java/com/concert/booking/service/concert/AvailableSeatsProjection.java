@@ -0,0 +1,55 @@
+package com.concert.booking.service.concert;
+
+import com.concert.booking.event.SeatStatusChangedEvent;
+import com.concert.booking.repository.ConcertScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// concert_schedules.available_seats 비동기 프로젝션
+// - 예매/취소 트랜잭션은 스케줄 행을 잠그거나 수정하지 않음 (서로 다른 좌석 예매가 병렬 진행)
+// - 좌석 상태 변경 커밋 시 스케줄을 dirty 표시 → 1초 주기로 좌석 상태 기준 재집계 (최대 ~1초 지연)
+// - 재집계는 멱등이므로 여러 노드가 같은 스케줄을 갱신해도 무방
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailableSeatsProjection {
+
+    private final ConcertScheduleRepository concertScheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> dirtySchedules = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        dirtySchedules.add(event.scheduleId());
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void refresh() {
+        if (dirtySchedules.isEmpty()) {
+            return;
+        }
+
+        List<Long> scheduleIds = new ArrayList<>(dirtySchedules);
+        for (Long scheduleId : scheduleIds) {
+            // 재집계 전에 제거 → 재집계 중 발생한 변경은 다음 주기에 다시 반영
+            dirtySchedules.remove(scheduleId);
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        concertScheduleRepository.refreshAvailableSeats(scheduleId));
+            } catch (Exception e) {
+                dirtySchedules.add(scheduleId);
+                log.warn("잔여 좌석 재집계 실패: scheduleId={}", scheduleId, e);
+            }
+        }
+    }
+}
@@ -2,18 +2,26 @@ package com.concert.booking.service.concert;
 
 import com.concert.booking.domain.Concert;
 import com.concert.booking.domain.ConcertSchedule;
-import com.concert.booking.domain.Seat;
 import com.concert.booking.dto.concert.ConcertResponse;
 import com.concert.booking.dto.concert.ConcertScheduleResponse;
+import com.concert.booking.dto.concert.SeatAvailabilityResponse;
 import com.concert.booking.dto.concert.SeatResponse;
 import com.concert.booking.repository.ConcertRepository;
 import com.concert.booking.repository.ConcertScheduleRepository;
 import com.concert.booking.repository.SeatRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +31,13 @@ public class ConcertService {
     private final ConcertRepository concertRepository;
     private final ConcertScheduleRepository concertScheduleRepository;
     private final SeatRepository seatRepository;
+    private final SeatMapCache seatMapCache;
+    private final SeatAvailabilityBitmap seatAvailabilityBitmap;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    // 스케줄 → 콘서트 매핑 (불변)
+    private final Map<Long, Long> scheduleConcertIds = new ConcurrentHashMap<>();
 
     public List<ConcertResponse> getConcerts() {
         return concertRepository.findAll().stream()
@@ -46,17 +61,47 @@ public class ConcertService {
                 .toList();
     }
 
-    public List<SeatResponse> getSeats(Long concertId, Long scheduleId) {
-        ConcertSchedule schedule = concertScheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다: " + scheduleId));
+    // 캐시 히트 시 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (미스 시 로더만 readOnly 트랜잭션 → replica)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SeatMapSnapshot getSeats(Long concertId, Long scheduleId) {
+        validateSchedule(concertId, scheduleId);
+        return seatMapCache.get(scheduleId, () -> loadSeatMapJson(scheduleId));
+    }
 
-        if (!schedule.getConcert().getId().equals(concertId)) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SeatAvailabilityResponse getSeatAvailability(Long concertId, Long scheduleId) {
+        validateSchedule(concertId, scheduleId);
+        SeatAvailabilityBitmap.BitmapSnapshot snapshot = seatAvailabilityBitmap.snapshot(scheduleId);
+        return new SeatAvailabilityResponse(
+                snapshot.baseSeatId(),
+                snapshot.seatCount(),
+                Base64.getEncoder().encodeToString(snapshot.bitmap())
+        );
+    }
+
+    private void validateSchedule(Long concertId, Long scheduleId) {
+        Long ownerConcertId = scheduleConcertIds.computeIfAbsent(scheduleId, this::findConcertId);
+        if (!ownerConcertId.equals(concertId)) {
             throw new IllegalArgumentException("해당 콘서트의 스케줄이 아닙니다.");
         }
+    }
 
-        List<Seat> seats = seatRepository.findByScheduleId(scheduleId);
-        return seats.stream()
+    private Long findConcertId(Long scheduleId) {
+        ConcertSchedule schedule = concertScheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다: " + scheduleId));
+        return schedule.getConcert().getId();
+    }
+
+    private String loadSeatMapJson(Long scheduleId) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<SeatResponse> seats = readOnly.execute(status -> seatRepository.findByScheduleId(scheduleId).stream()
                 .map(SeatResponse::from)
-                .toList();
+                .toList());
+        try {
+            return objectMapper.writeValueAsString(seats);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좌석 배치도 직렬화에 실패했습니다: " + scheduleId, e);
+        }
     }
 }
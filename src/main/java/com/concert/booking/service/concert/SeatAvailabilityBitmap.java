@@ -0,0 +1,235 @@
+package com.concert.booking.service.concert;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.domain.SeatStatus;
+import com.concert.booking.event.SeatStatusChangedEvent;
+import com.concert.booking.repository.SeatRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 스케줄별 좌석 가용성 비트맵 (좌석 1개 = 1bit, 5만 석 ≈ 6KB)
+// - bit offset = seatId - 스케줄 기준 seatId (좌석은 스케줄 단위로 연속 생성)
+// - 1 = HELD/RESERVED, 0 = AVAILABLE
+// - 좌석 상태 변경 커밋 후 SeatStatusChangedEvent로 갱신 (예매/결제/만료/취소 경로 공통)
+// - 선검사 전용: 비트맵이 없거나 범위 밖 좌석은 '가용'으로 간주하고 DB 검증에 맡김
+@Slf4j
+@Component
+public class SeatAvailabilityBitmap {
+
+    // 누락된 갱신이 있더라도 TTL 만료 후 DB 기준으로 재구성 → 잘못된 '점유' 표시(가용 좌석 거절)의 지속 상한
+    public static final Duration BITMAP_TTL = Duration.ofSeconds(30);
+    // 좌석 ID 범위는 좌석 생성 후 불변
+    private static final Duration RANGE_TTL = Duration.ofMinutes(10);
+    // 변경 카운터는 재구성 1회(DB 조회) 동안만 유효하면 됨
+    private static final Duration VERSION_TTL = Duration.ofMinutes(10);
+
+    private static final RedisScript<List<Long>> CHECK_SCRIPT = loadListScript("redis/seat_bitmap_check.lua");
+    private static final long BITMAP_MISSING = -1L;
+    private static final RedisScript<Long> SET_SCRIPT = loadScript("redis/seat_bitmap_set.lua", Long.class);
+    private static final RedisScript<Long> REBUILD_SCRIPT = loadScript("redis/seat_bitmap_rebuild.lua", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SeatRepository seatRepository;
+
+    // 스케줄 좌석 ID 범위 (좌석 생성 후 불변)
+    private final Cache<Long, SeatRange> ranges = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(RANGE_TTL)
+            .build();
+
+    public SeatAvailabilityBitmap(RedisTemplate<String, String> redisTemplate, SeatRepository seatRepository) {
+        this.redisTemplate = redisTemplate;
+        this.seatRepository = seatRepository;
+    }
+
+    // 요청 좌석 중 점유된(HELD/RESERVED) 좌석 ID, 비트맵이 없으면 재구성 후 빈 목록 (DB 검증에 맡김)
+    public List<Long> findTaken(Long scheduleId, Collection<Long> seatIds) {
+        SeatRange range = range(scheduleId);
+        if (range == null) {
+            return List.of();
+        }
+
+        List<String> offsets = new ArrayList<>(seatIds.size());
+        for (Long seatId : seatIds) {
+            if (range.contains(seatId)) {
+                offsets.add(String.valueOf(range.offset(seatId)));
+            }
+        }
+        if (offsets.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> takenOffsets = redisTemplate.execute(CHECK_SCRIPT,
+                List.of(RedisKeyUtil.seatBitmapKey(scheduleId)), offsets.toArray());
+        if (takenOffsets == null || takenOffsets.isEmpty()) {
+            return List.of();
+        }
+        if (takenOffsets.get(0) == BITMAP_MISSING) {
+            rebuild(scheduleId);
+            return List.of();
+        }
+
+        List<Long> taken = new ArrayList<>(takenOffsets.size());
+        for (Long offset : takenOffsets) {
+            taken.add(range.baseSeatId() + offset);
+        }
+        return taken;
+    }
+
+    // 비트맵 원본 (클라이언트 좌석 배치도 표시용), 없으면 재구성
+    public BitmapSnapshot snapshot(Long scheduleId) {
+        SeatRange range = range(scheduleId);
+        if (range == null) {
+            return new BitmapSnapshot(null, 0, new byte[0]);
+        }
+        byte[] bitmap = getRaw(scheduleId);
+        if (bitmap == null) {
+            bitmap = rebuild(scheduleId);
+        }
+        return new BitmapSnapshot(range.baseSeatId(), range.size(), bitmap);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        try {
+            SeatRange range = range(event.scheduleId());
+            if (range == null || !range.contains(event.seatId())) {
+                return;
+            }
+            String bit = event.status() == SeatStatus.AVAILABLE ? "0" : "1";
+            redisTemplate.execute(SET_SCRIPT,
+                    List.of(RedisKeyUtil.seatBitmapKey(event.scheduleId()),
+                            RedisKeyUtil.seatBitmapVersionKey(event.scheduleId())),
+                    String.valueOf(range.offset(event.seatId())), bit,
+                    String.valueOf(VERSION_TTL.toSeconds()));
+        } catch (Exception e) {
+            // 이미 커밋된 트랜잭션 → 예외 전파 불가, 비트맵을 버려 다음 조회에서 DB 기준 재구성 (삭제도 실패하면 TTL로 복구)
+            log.warn("좌석 비트맵 갱신 실패: scheduleId={}, seatId={}", event.scheduleId(), event.seatId(), e);
+            try {
+                evict(event.scheduleId());
+            } catch (Exception evictError) {
+                log.warn("좌석 비트맵 삭제 실패: scheduleId={}", event.scheduleId(), evictError);
+            }
+        }
+    }
+
+    // 비트맵 삭제 → 다음 조회 시 DB 기준 재구성 (관리자 리셋 등 벌크 변경 후)
+    // 변경 카운터도 증가 → 삭제 전에 시작된 재구성이 이전 스냅샷을 저장하지 않음
+    public void evict(Long scheduleId) {
+        redisTemplate.opsForValue().increment(RedisKeyUtil.seatBitmapVersionKey(scheduleId));
+        redisTemplate.delete(RedisKeyUtil.seatBitmapKey(scheduleId));
+    }
+
+    // 트랜잭션 안의 벌크 변경: 커밋 후 삭제 (커밋 전 DB를 읽은 재구성이 저장되지 않도록)
+    public void evictAfterCommit(Long scheduleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(scheduleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(scheduleId);
+            }
+        });
+    }
+
+    // DB 기준 비트맵 생성
+    // - DB 조회 전에 변경 카운터를 읽고, 저장 시점에 카운터가 같을 때만 저장 (Lua) → 조회 이후 변경이 있었으면 저장 생략
+    // - key 없을 때만 저장 (동시 재구성 시 먼저 저장된 것 유지)
+    byte[] rebuild(Long scheduleId) {
+        SeatRange range = range(scheduleId);
+        if (range == null) {
+            return new byte[0];
+        }
+
+        String versionKey = RedisKeyUtil.seatBitmapVersionKey(scheduleId);
+        String version = redisTemplate.opsForValue().get(versionKey);
+
+        byte[] bitmap = new byte[(range.size() + 7) / 8];
+        for (Long seatId : seatRepository.findUnavailableIdsByScheduleId(scheduleId)) {
+            if (range.contains(seatId)) {
+                int offset = range.offset(seatId);
+                // Redis 비트 순서: 바이트 내 MSB가 offset 0
+                bitmap[offset >> 3] |= (byte) (0x80 >>> (offset & 7));
+            }
+        }
+
+        // 비트맵은 바이너리 → 문자열 직렬화를 거치지 않도록 커넥션에서 직접 EVAL
+        byte[] script = REBUILD_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        byte[][] keysAndArgs = {
+                RedisKeyUtil.seatBitmapKey(scheduleId).getBytes(StandardCharsets.UTF_8),
+                versionKey.getBytes(StandardCharsets.UTF_8),
+                (version != null ? version : "0").getBytes(StandardCharsets.UTF_8),
+                bitmap,
+                String.valueOf(BITMAP_TTL.toSeconds()).getBytes(StandardCharsets.UTF_8)
+        };
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                .eval(script, ReturnType.INTEGER, 2, keysAndArgs));
+        return bitmap;
+    }
+
+    private byte[] getRaw(Long scheduleId) {
+        byte[] key = RedisKeyUtil.seatBitmapKey(scheduleId).getBytes(StandardCharsets.UTF_8);
+        return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+    }
+
+    private SeatRange range(Long scheduleId) {
+        SeatRange cached = ranges.getIfPresent(scheduleId);
+        if (cached != null) {
+            return cached;
+        }
+        Long minId = seatRepository.findMinIdByScheduleId(scheduleId);
+        Long maxId = seatRepository.findMaxIdByScheduleId(scheduleId);
+        if (minId == null || maxId == null) {
+            return null;
+        }
+        SeatRange range = new SeatRange(minId, (int) (maxId - minId + 1));
+        ranges.put(scheduleId, range);
+        return range;
+    }
+
+    // 정수 배열 반환 스크립트 (MULTI 응답의 정수 원소는 Long으로 역직렬화)
+    @SuppressWarnings("unchecked")
+    private static RedisScript<List<Long>> loadListScript(String path) {
+        return (RedisScript<List<Long>>) (RedisScript<?>) loadScript(path, List.class);
+    }
+
+    private static <T> RedisScript<T> loadScript(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(resultType);
+        return script;
+    }
+
+    private record SeatRange(Long baseSeatId, int size) {
+
+        boolean contains(Long seatId) {
+            return seatId != null && seatId >= baseSeatId && seatId - baseSeatId < size;
+        }
+
+        int offset(Long seatId) {
+            return (int) (seatId - baseSeatId);
+        }
+    }
+
+    public record BitmapSnapshot(Long baseSeatId, int seatCount, byte[] bitmap) {
+    }
+}
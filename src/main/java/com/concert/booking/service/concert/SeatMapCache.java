@@ -0,0 +1,129 @@
+package com.concert.booking.service.concert;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.event.SeatStatusChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 스케줄별 좌석 배치도 캐시 (로컬 Caffeine → Redis → DB)
+// - 좌석 상태 변경 커밋 시 버전 증가 → 이전 버전 스냅샷은 더 이상 사용되지 않음
+// - 조회 시 현재 버전과 일치하는 스냅샷만 반환 (최대 1버전 지연)
+@Slf4j
+@Component
+public class SeatMapCache {
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, SeatMapSnapshot> localCache;
+    private final ConcurrentHashMap<Long, CompletableFuture<SeatMapSnapshot>> inflightLoads = new ConcurrentHashMap<>();
+
+    public SeatMapCache(RedisTemplate<String, String> redisTemplate,
+                        @Value("${seat-map.cache.local-max-size:1000}") long localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterAccess(SNAPSHOT_TTL)
+                .build();
+    }
+
+    public SeatMapSnapshot get(Long scheduleId, Supplier<String> loader) {
+        long version = currentVersion(scheduleId);
+
+        SeatMapSnapshot cached = localCache.getIfPresent(scheduleId);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        // 같은 스케줄의 동시 미스는 JVM 내에서 1회만 로드 (먼저 도착한 요청의 로드 결과를 공유)
+        // asMap().compute 안에서 Redis/DB I/O를 하면 synchronized 구간에서 가상 스레드가 캐리어에 고정되므로 락 밖에서 로드
+        CompletableFuture<SeatMapSnapshot> loading = new CompletableFuture<>();
+        CompletableFuture<SeatMapSnapshot> running = inflightLoads.putIfAbsent(scheduleId, loading);
+        if (running != null) {
+            SeatMapSnapshot shared = await(running);
+            // 진행 중이던 로드가 이전 버전이면 공유하지 않고 직접 로드
+            return shared.version() == version ? shared : loadSnapshot(scheduleId, version, loader);
+        }
+
+        try {
+            SeatMapSnapshot snapshot = loadSnapshot(scheduleId, version, loader);
+            localCache.put(scheduleId, snapshot);
+            loading.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflightLoads.remove(scheduleId, loading);
+        }
+    }
+
+    private static SeatMapSnapshot await(CompletableFuture<SeatMapSnapshot> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 버전 증가 → 모든 서버의 로컬/Redis 스냅샷 무효화
+    public void invalidate(Long scheduleId) {
+        redisTemplate.opsForValue().increment(RedisKeyUtil.seatMapVersionKey(scheduleId));
+    }
+
+    // 트랜잭션 내부라면 커밋 후 무효화 (커밋 전 데이터가 새 버전으로 캐시되는 것 방지)
+    public void invalidateAfterCommit(Long scheduleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(scheduleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(scheduleId);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        try {
+            invalidate(event.scheduleId());
+        } catch (Exception e) {
+            // 이미 커밋된 트랜잭션 → 예외 전파 불가, 스냅샷 TTL로 최종 복구
+            log.warn("좌석 배치도 캐시 무효화 실패: scheduleId={}", event.scheduleId(), e);
+        }
+    }
+
+    private SeatMapSnapshot loadSnapshot(Long scheduleId, long version, Supplier<String> loader) {
+        String key = RedisKeyUtil.seatMapKey(scheduleId, version);
+        String json = redisTemplate.opsForValue().get(key);
+        if (json == null) {
+            json = loader.get();
+            redisTemplate.opsForValue().set(key, json, SNAPSHOT_TTL);
+        }
+        return new SeatMapSnapshot(version, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long currentVersion(Long scheduleId) {
+        String version = redisTemplate.opsForValue().get(RedisKeyUtil.seatMapVersionKey(scheduleId));
+        return version != null ? Long.parseLong(version) : 0L;
+    }
+}
@@ -0,0 +1,8 @@
+package com.concert.booking.service.concert;
+
+// 좌석 배치도 캐시 항목: 버전 + 직렬화된 응답 본문(JSON)
+public record SeatMapSnapshot(
+        long version,
+        byte[] json
+) {
+}
@@ -0,0 +1,92 @@
+package com.concert.booking.service.concert;
+
+import com.concert.booking.common.exception.SeatNotAvailableException;
+import com.concert.booking.domain.SeatStatus;
+import com.concert.booking.event.SeatStatusChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+// 점유 좌석 네거티브 캐시 (로컬 Caffeine → Redis 좌석 비트맵)
+// - 좌석 HOLD/RESERVED 커밋 시 로컬 기록, AVAILABLE(취소/만료 반환) 커밋 시 로컬 삭제 (비트맵과 같은 SeatStatusChangedEvent)
+// - 다른 노드가 점유한 좌석은 비트맵 조회에서 점유로 확인되면 로컬 기록
+// - 다른 노드에서 반환된 좌석은 로컬 TTL 동안 거절될 수 있음 → TTL을 짧게 유지 (판매 재개 지연 상한)
+// - 선검사 전용: 로컬/비트맵에 없으면 DB 검증에 맡김 (점유 판단의 기준은 항상 DB)
+@Component
+public class SeatTakenCache {
+
+    private static final String REJECTION_MESSAGE = "선택한 좌석 중 이미 예매된 좌석이 있습니다.";
+
+    private final SeatAvailabilityBitmap seatAvailabilityBitmap;
+    private final Cache<Long, Boolean> takenSeats;
+
+    private final Counter localRejections;
+    private final Counter redisRejections;
+
+    public SeatTakenCache(SeatAvailabilityBitmap seatAvailabilityBitmap,
+                          MeterRegistry meterRegistry,
+                          @Value("${reservation.seat-taken-cache.local-ttl:1s}") Duration localTtl,
+                          @Value("${reservation.seat-taken-cache.local-max-size:100000}") long localMaxSize) {
+        this.seatAvailabilityBitmap = seatAvailabilityBitmap;
+        this.takenSeats = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.localRejections = rejectionCounter(meterRegistry, "local");
+        this.redisRejections = rejectionCounter(meterRegistry, "redis");
+    }
+
+    // 점유 좌석이 포함되면 트랜잭션/락 진입 전에 거절 (로컬 히트 시 Redis 왕복 없음)
+    public void assertNotTaken(Long scheduleId, Collection<Long> seatIds) {
+        if (isTakenLocally(seatIds)) {
+            localRejections.increment();
+            throw new SeatNotAvailableException(REJECTION_MESSAGE);
+        }
+
+        List<Long> taken = seatAvailabilityBitmap.findTaken(scheduleId, seatIds);
+        if (!taken.isEmpty()) {
+            taken.forEach(seatId -> takenSeats.put(seatId, Boolean.TRUE));
+            redisRejections.increment();
+            throw new SeatNotAvailableException(REJECTION_MESSAGE);
+        }
+    }
+
+    // 로컬 캐시만 확인 (트랜잭션 안의 재시도 경로용, I/O 없음)
+    public boolean isTakenLocally(Collection<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            if (takenSeats.getIfPresent(seatId) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        if (event.status() == SeatStatus.AVAILABLE) {
+            takenSeats.invalidate(event.seatId());
+        } else {
+            takenSeats.put(event.seatId(), Boolean.TRUE);
+        }
+    }
+
+    // 관리자 리셋 등 벌크 변경 후 (다른 노드는 로컬 TTL 만료로 반영)
+    public void clear() {
+        takenSeats.invalidateAll();
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String layer) {
+        return Counter.builder("reservation.precheck.rejected")
+                .description("트랜잭션 진입 전 점유 좌석 거절")
+                .tag("layer", layer)
+                .register(meterRegistry);
+    }
+}
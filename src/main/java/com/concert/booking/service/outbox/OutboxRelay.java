@@ -0,0 +1,123 @@
+package com.concert.booking.service.outbox;
+
+import com.concert.booking.domain.OutboxEvent;
+import com.concert.booking.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 아웃박스 릴레이: 발행 대기 이벤트를 배치로 Kafka 전송 → 전체 ack 후 삭제
+// - 브로커 장애 시 행이 남아 다음 주기에 재시도 (유실 없음, at-least-once — Consumer는 멱등)
+// - 배치 전송 중 일부만 성공해도 전체 롤백 → 중복 발행 가능, 유실은 없음
+// - 전송 중 FOR UPDATE 행 락 + primary 커넥션 1개 보유 → 보유 시간 상한 = send-timeout (+ 첫 send의 max.block.ms)
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, Object> kafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.send-timeout:5s}") Duration sendTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+
+        this.publishedCounter = Counter.builder("outbox.relay.published")
+                .description("아웃박스에서 Kafka로 발행된 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed")
+                .description("아웃박스 배치 발행 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:100}")
+    public void relay() {
+        while (true) {
+            int sent;
+            try {
+                sent = relayBatch();
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.warn("아웃박스 발행 실패 — 다음 주기에 재시도", e);
+                return;
+            }
+
+            publishedCounter.increment(sent);
+            if (sent < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private int relayBatch() {
+        Integer sent = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findBatchForRelay(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            long deadline = System.nanoTime() + sendTimeout.toNanos();
+
+            // 비동기 send → 프로듀서가 linger.ms 동안 모아 파티션별 배치 전송
+            List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(events.size());
+            for (OutboxEvent event : events) {
+                if (System.nanoTime() >= deadline) {
+                    throw new IllegalStateException("아웃박스 배치 전송 시간 초과: " + sendTimeout);
+                }
+                CompletableFuture<SendResult<String, Object>> future =
+                        kafkaTemplate.send(event.getTopic(), event.getEventKey(), toEvent(event));
+                // 즉시 실패(메타데이터 대기 초과 등) → 남은 send 생략 (건마다 max.block.ms 반복 대기 방지)
+                if (future.isCompletedExceptionally()) {
+                    future.join();
+                }
+                futures.add(future);
+            }
+
+            // 전체 ack 대기 (실패/타임아웃 → 예외 → 롤백, 행 유지)
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .orTimeout(Math.max(deadline - System.nanoTime(), 1), TimeUnit.NANOSECONDS)
+                    .join();
+
+            outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+            return events.size();
+        });
+        return sent == null ? 0 : sent;
+    }
+
+    private Object toEvent(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), Class.forName(event.getEventType()));
+        } catch (Exception e) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화 실패: id=" + event.getId(), e);
+        }
+    }
+}
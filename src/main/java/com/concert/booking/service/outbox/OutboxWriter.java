@@ -0,0 +1,33 @@
+package com.concert.booking.service.outbox;
+
+import com.concert.booking.domain.OutboxEvent;
+import com.concert.booking.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 호출 트랜잭션에 아웃박스 행 추가 (비즈니스 변경과 함께 커밋/롤백)
+// 요청 스레드는 Kafka 브로커 상태와 무관하게 INSERT 1건만 수행
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, String key, Object event) {
+        outboxEventRepository.save(OutboxEvent.create(topic, key, event.getClass().getName(), toJson(event)));
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
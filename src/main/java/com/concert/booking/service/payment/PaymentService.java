@@ -13,9 +13,9 @@ import com.concert.booking.event.ReservationCompletedEvent;
 import com.concert.booking.repository.PaymentRepository;
 import com.concert.booking.repository.ReservationRepository;
 import com.concert.booking.repository.ReservationSeatRepository;
+import com.concert.booking.service.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +30,7 @@ public class PaymentService {
     private final ReservationRepository reservationRepository;
     private final ReservationSeatRepository reservationSeatRepository;
     private final PaymentRepository paymentRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxWriter outboxWriter;
 
     @Transactional
     public PaymentResponse pay(Long userId, PaymentRequest request) {
@@ -65,20 +65,15 @@ public class PaymentService {
             rs.getSeat().reserve();
         }
 
-        // Kafka 이벤트 발행: 예매 완료
-        try {
-            ReservationCompletedEvent event = new ReservationCompletedEvent(
-                    reservation.getId(),
-                    reservation.getUser().getId(),
-                    reservation.getSchedule().getId(),
-                    reservation.getTotalAmount(),
-                    LocalDateTime.now()
-            );
-            kafkaTemplate.send("reservation.completed",
-                    String.valueOf(reservation.getId()), event);
-        } catch (Exception e) {
-            log.warn("예매 완료 이벤트 발행 실패: reservationId={}", reservation.getId(), e);
-        }
+        // 예매 완료 이벤트: 같은 트랜잭션에 아웃박스 기록 → OutboxRelay가 Kafka 발행
+        ReservationCompletedEvent event = new ReservationCompletedEvent(
+                reservation.getId(),
+                reservation.getUser().getId(),
+                reservation.getSchedule().getId(),
+                reservation.getTotalAmount(),
+                LocalDateTime.now()
+        );
+        outboxWriter.append("reservation.completed", String.valueOf(reservation.getId()), event);
 
         return PaymentResponse.from(payment);
     }
@@ -0,0 +1,84 @@
+package com.concert.booking.service.queue;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+// 스케줄별 입장 속도 결정: 설정값(기본/스케줄별) × DB 커넥션 풀 압력에 따른 가변 계수
+@Slf4j
+@Component
+public class AdmissionRateController {
+
+    private static final double MIN_FACTOR = 0.1;
+    private static final double RECOVERY_STEP = 0.1;
+    private static final double IDLE_RATIO = 0.5; // 활성 커넥션이 풀의 50% 미만이면 여유로 판단
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final HikariPoolMXBean pool;
+    private final int defaultBatchSize;
+
+    private volatile double factor = 1.0;
+
+    public AdmissionRateController(RedisTemplate<String, String> redisTemplate,
+                                   DataSource dataSource,
+                                   @Value("${queue.admission.batch-size:50}") int defaultBatchSize) {
+        this.redisTemplate = redisTemplate;
+        this.pool = resolvePool(dataSource);
+        this.defaultBatchSize = defaultBatchSize;
+    }
+
+    // 커넥션 대기 스레드 발생 → 절반으로 감속, 풀 여유 → 점진 복구 (AIMD)
+    public void adjust() {
+        if (pool == null) {
+            return;
+        }
+        int waiting = pool.getThreadsAwaitingConnection();
+        int active = pool.getActiveConnections();
+        int total = Math.max(1, pool.getTotalConnections());
+
+        double previous = factor;
+        if (waiting > 0) {
+            factor = Math.max(MIN_FACTOR, factor / 2);
+        } else if (active < total * IDLE_RATIO) {
+            factor = Math.min(1.0, factor + RECOVERY_STEP);
+        }
+
+        if (previous != factor) {
+            log.info("입장 속도 계수 조정: {} → {} (active={}, total={}, waiting={})",
+                    previous, factor, active, total, waiting);
+        }
+    }
+
+    // 이번 회차 입장 인원 = (스케줄별 설정 or 기본값) × 계수, 최소 1명
+    public int batchSize(Long scheduleId) {
+        Object override = redisTemplate.opsForHash().get(RedisKeyUtil.admissionRateKey(), String.valueOf(scheduleId));
+        int configured = override != null ? Integer.parseInt(override.toString()) : defaultBatchSize;
+        return Math.max(1, (int) (configured * factor));
+    }
+
+    public void setRate(Long scheduleId, int rate) {
+        redisTemplate.opsForHash().put(RedisKeyUtil.admissionRateKey(), String.valueOf(scheduleId), String.valueOf(rate));
+    }
+
+    public double getFactor() {
+        return factor;
+    }
+
+    private static HikariPoolMXBean resolvePool(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            }
+        } catch (SQLException e) {
+            log.warn("HikariCP 풀 정보를 가져올 수 없습니다. 입장 속도를 고정값으로 운영합니다.", e);
+        }
+        return null;
+    }
+}
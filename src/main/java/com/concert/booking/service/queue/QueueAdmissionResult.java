@@ -0,0 +1,28 @@
+package com.concert.booking.service.queue;
+
+// 입장 토큰 발급 스크립트 실행 결과
+public record QueueAdmissionResult(
+        Status status,
+        String token,
+        long position
+) {
+
+    public enum Status {
+        ADMITTED,          // 이번 요청으로 토큰 발급
+        ALREADY_ADMITTED,  // 이전에 발급된 토큰 재사용
+        NOT_READY,         // 순번 미도달
+        NOT_IN_QUEUE       // 대기열에 없음
+    }
+
+    public static QueueAdmissionResult of(String status, String value) {
+        Status parsed = Status.valueOf(status);
+        return switch (parsed) {
+            case ADMITTED, ALREADY_ADMITTED -> new QueueAdmissionResult(parsed, value, 0L);
+            case NOT_READY, NOT_IN_QUEUE -> new QueueAdmissionResult(parsed, null, Long.parseLong(value));
+        };
+    }
+
+    public boolean admitted() {
+        return status == Status.ADMITTED || status == Status.ALREADY_ADMITTED;
+    }
+}
@@ -0,0 +1,50 @@
+package com.concert.booking.service.queue;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.admission.scheduler-enabled", havingValue = "true", matchIfMissing = true)
+public class QueueAdmissionScheduler {
+
+    private final QueueService queueService;
+    private final AdmissionRateController rateController;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 1초마다 대기열 선두를 활성 집합으로 입장, ShedLock으로 서버 2대 중복 실행 방지
+    @Scheduled(fixedRate = 1000)
+    @SchedulerLock(name = "admitWaitingUsers", lockAtLeastFor = "500ms", lockAtMostFor = "5s")
+    public void admitWaitingUsers() {
+        Set<String> scheduleIds = redisTemplate.opsForSet().members(RedisKeyUtil.queueIndexKey());
+        if (scheduleIds == null || scheduleIds.isEmpty()) {
+            return;
+        }
+
+        rateController.adjust();
+
+        for (String id : scheduleIds) {
+            Long scheduleId = Long.valueOf(id);
+            try {
+                int batchSize = rateController.batchSize(scheduleId);
+                QueueService.AdmissionBatch batch = queueService.admitBatch(scheduleId, batchSize);
+
+                if (batch.admitted() > 0) {
+                    log.debug("대기열 입장: scheduleId={}, admitted={}, remaining={}",
+                            scheduleId, batch.admitted(), batch.remaining());
+                }
+            } catch (Exception e) {
+                log.error("대기열 입장 처리 실패: scheduleId={}", scheduleId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.concert.booking.service.queue;
+
+import com.concert.booking.dto.queue.QueuePositionResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// SSE 순번 스트림 팬아웃: 스케줄별 1회 순위 계산 → 등록된 emitter 전체에 전송
+// 구독자 수가 늘어도 스레드 수(tick 1개 + 가상 스레드)와 Redis 호출 수가 일정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueuePositionBroadcaster {
+
+    private static final long SSE_TIMEOUT = 5 * 60 * 1000L; // 5분
+    private static final int RANGE_PAGE_SIZE = 10_000;     // ZRANGE 1회 조회 범위
+    private static final int SEND_CHUNK_SIZE = 500;        // 가상 스레드 1개가 담당하는 emitter 수
+
+    private final QueueService queueService;
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    // scheduleId → (userId → emitter)
+    private final Map<Long, Map<Long, SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long userId, Long scheduleId) {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
+
+        // 같은 유저의 기존 연결은 종료 (탭 재접속 등)
+        // 등록은 compute 안에서 → 빈 맵 정리(broadcast/unsubscribe)와 겹쳐도 제거된 맵에 등록되지 않음
+        SseEmitter[] previous = new SseEmitter[1];
+        subscribers.compute(scheduleId, (id, emitters) -> {
+            Map<Long, SseEmitter> target = emitters != null ? emitters : new ConcurrentHashMap<>();
+            previous[0] = target.put(userId, emitter);
+            return target;
+        });
+        if (previous[0] != null) {
+            previous[0].complete();
+        }
+
+        emitter.onCompletion(() -> unsubscribe(scheduleId, userId, emitter));
+        emitter.onTimeout(() -> unsubscribe(scheduleId, userId, emitter));
+        emitter.onError(e -> unsubscribe(scheduleId, userId, emitter));
+
+        // 첫 tick(최대 1초)을 기다리지 않고 현재 순번 즉시 전송 (응답 전 전송분은 연결 시 flush)
+        try {
+            send(scheduleId, userId, emitter, queueService.getPosition(userId, scheduleId));
+        } catch (Exception e) {
+            log.warn("대기열 초기 순번 전송 실패 — 다음 tick에 전송: scheduleId={}, userId={}", scheduleId, userId, e);
+        }
+
+        return emitter;
+    }
+
+    // 매 1초: 스케줄별 ZRANGE 스캔 1회 → 구독자별 이벤트 전송은 가상 스레드로 분산
+    @Scheduled(fixedRate = 1000)
+    public void broadcast() {
+        subscribers.forEach((scheduleId, emitters) -> {
+            if (emitters.isEmpty()) {
+                // 확인과 제거를 원자적으로 (그 사이 구독이 추가되면 유지)
+                subscribers.computeIfPresent(scheduleId, (id, current) -> current.isEmpty() ? null : current);
+                return;
+            }
+
+            try {
+                QueueService.QueueSnapshot snapshot =
+                        queueService.getPositions(scheduleId, new HashSet<>(emitters.keySet()), RANGE_PAGE_SIZE);
+                dispatch(scheduleId, emitters, snapshot);
+            } catch (Exception e) {
+                log.error("대기열 순번 브로드캐스트 실패: scheduleId={}", scheduleId, e);
+            }
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public int getSubscriberCount(Long scheduleId) {
+        Map<Long, SseEmitter> emitters = subscribers.get(scheduleId);
+        return emitters == null ? 0 : emitters.size();
+    }
+
+    private void dispatch(Long scheduleId, Map<Long, SseEmitter> emitters, QueueService.QueueSnapshot snapshot) {
+        List<Map.Entry<Long, SseEmitter>> targets = new ArrayList<>(emitters.entrySet());
+
+        for (int from = 0; from < targets.size(); from += SEND_CHUNK_SIZE) {
+            List<Map.Entry<Long, SseEmitter>> chunk = targets.subList(from, Math.min(from + SEND_CHUNK_SIZE, targets.size()));
+            sender.execute(() -> {
+                for (Map.Entry<Long, SseEmitter> target : chunk) {
+                    long position = snapshot.positions().getOrDefault(target.getKey(), 0L);
+                    send(scheduleId, target.getKey(), target.getValue(),
+                            queueService.toPositionResponse(position, snapshot.totalWaiting()));
+                }
+            });
+        }
+    }
+
+    private void send(Long scheduleId, Long userId, SseEmitter emitter, QueuePositionResponse position) {
+        try {
+            if (position.position() == 0) {
+                // 대기열에서 이미 제거됨 (토큰 발급 완료)
+                emitter.send(SseEmitter.event()
+                        .name("COMPLETED")
+                        .data("대기열에서 제거되었습니다."));
+                emitter.complete();
+                return;
+            }
+
+            emitter.send(SseEmitter.event()
+                    .name("POSITION")
+                    .data(position));
+
+            // 순위 ≤ threshold → READY 이벤트 전송
+            if (position.position() <= QueueService.ENTRY_THRESHOLD) {
+                emitter.send(SseEmitter.event()
+                        .name("READY")
+                        .data("입장 가능합니다. 토큰을 발급받아주세요."));
+                emitter.complete();
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            unsubscribe(scheduleId, userId, emitter);
+        } catch (IllegalStateException e) {
+            // 이미 완료된 emitter
+            unsubscribe(scheduleId, userId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long scheduleId, Long userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(scheduleId, (id, emitters) -> {
+            emitters.remove(userId, emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(emitters -> emitters.values().forEach(SseEmitter::complete));
+        subscribers.clear();
+        sender.shutdown();
+    }
+}
@@ -5,11 +5,19 @@ import com.concert.booking.common.util.RedisKeyUtil;
 import com.concert.booking.dto.queue.QueuePositionResponse;
 import com.concert.booking.dto.queue.QueueTokenResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -17,9 +25,18 @@ public class QueueService {
 
     private final RedisTemplate<String, String> redisTemplate;
 
-    private static final int ENTRY_THRESHOLD = 100; // 100등 이내 입장 가능
+    static final int ENTRY_THRESHOLD = 100; // 100등 이내 입장 가능
     private static final int TOKEN_TTL_SECONDS = 300; // 5분
 
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT = loadScript("redis/queue_admit.lua");
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_BATCH_SCRIPT = loadScript("redis/queue_admit_batch.lua");
+
+    // 스케줄별 활성 집합 상한 (토큰 보유 = 예매 진행 가능 인원)
+    @Value("${queue.admission.max-active:200}")
+    private int maxActive;
+
     // 대기열 진입: ZADD NX (중복 방지, score = timestamp)
     public QueuePositionResponse enter(Long userId, Long scheduleId) {
         String queueKey = RedisKeyUtil.queueKey(scheduleId);
@@ -27,6 +44,7 @@ public class QueueService {
 
         // NX: 이미 대기 중이면 무시 (중복 진입·순번 조작 방지)
         redisTemplate.opsForZSet().addIfAbsent(queueKey, String.valueOf(userId), score);
+        redisTemplate.opsForSet().add(RedisKeyUtil.queueIndexKey(), String.valueOf(scheduleId));
 
         return getPosition(userId, scheduleId);
     }
@@ -37,33 +55,111 @@ public class QueueService {
         Long rank = redisTemplate.opsForZSet().rank(queueKey, String.valueOf(userId));
         Long totalWaiting = redisTemplate.opsForZSet().size(queueKey);
 
-        if (rank == null) {
-            return new QueuePositionResponse(0L, totalWaiting != null ? totalWaiting : 0L, "대기열에 없습니다.");
+        return toPositionResponse(rank != null ? rank + 1 : 0L, totalWaiting != null ? totalWaiting : 0L);
+    }
+
+    // 다건 순위 조회: ZRANGE 페이지 스캔으로 구독자 순위를 한 번에 계산 (유저 수와 무관하게 Redis 호출 수 일정)
+    public QueueSnapshot getPositions(Long scheduleId, Set<Long> userIds, int pageSize) {
+        String queueKey = RedisKeyUtil.queueKey(scheduleId);
+        Long totalWaiting = redisTemplate.opsForZSet().size(queueKey);
+        long total = totalWaiting != null ? totalWaiting : 0L;
+
+        Map<Long, Long> positions = new HashMap<>(userIds.size() * 2);
+        long offset = 0;
+
+        // 가장 뒤쪽 구독자를 찾을 때까지만 페이지 단위로 스캔
+        while (offset < total && positions.size() < userIds.size()) {
+            Set<String> page = redisTemplate.opsForZSet().range(queueKey, offset, offset + pageSize - 1);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            long position = offset;
+            for (String member : page) {
+                position++;
+                Long userId = Long.valueOf(member);
+                if (userIds.contains(userId)) {
+                    positions.put(userId, position);
+                }
+            }
+            offset += page.size();
         }
 
-        long position = rank + 1; // 0-based → 1-based
-        String estimatedWaitTime = estimateWaitTime(position);
+        return new QueueSnapshot(positions, total);
+    }
+
+    public record QueueSnapshot(Map<Long, Long> positions, long totalWaiting) {
+    }
 
-        return new QueuePositionResponse(position, totalWaiting != null ? totalWaiting : 0L, estimatedWaitTime);
+    // position = 0 → 대기열에 없음
+    public QueuePositionResponse toPositionResponse(long position, long totalWaiting) {
+        if (position == 0) {
+            return new QueuePositionResponse(0L, totalWaiting, "대기열에 없습니다.");
+        }
+        return new QueuePositionResponse(position, totalWaiting, estimateWaitTime(position));
     }
 
     // 입장 토큰 발급: 순위 ≤ threshold → UUID 생성, Redis SET EX 300
     public QueueTokenResponse issueToken(Long userId, Long scheduleId) {
-        String queueKey = RedisKeyUtil.queueKey(scheduleId);
-        Long rank = redisTemplate.opsForZSet().rank(queueKey, String.valueOf(userId));
+        QueueAdmissionResult result = admit(userId, scheduleId);
 
-        if (rank == null || rank + 1 > ENTRY_THRESHOLD) {
+        if (!result.admitted()) {
             throw new QueueNotReadyException("아직 입장 순서가 아닙니다. 대기열에서 기다려주세요.");
         }
 
-        String token = UUID.randomUUID().toString();
-        String tokenKey = RedisKeyUtil.tokenKey(userId, scheduleId);
-        redisTemplate.opsForValue().set(tokenKey, token, TOKEN_TTL_SECONDS, TimeUnit.SECONDS);
+        return new QueueTokenResponse(result.token(), scheduleId);
+    }
+
+    // 입장 처리: 순위 확인 + 활성 집합 상한 확인 + 토큰 SET EX + ZREM을 Lua 스크립트로 원자 실행 (1 RTT)
+    public QueueAdmissionResult admit(Long userId, Long scheduleId) {
+        List<String> keys = List.of(
+                RedisKeyUtil.queueKey(scheduleId),
+                RedisKeyUtil.tokenKey(userId, scheduleId),
+                RedisKeyUtil.activeKey(scheduleId));
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = redisTemplate.execute(ADMIT_SCRIPT, keys,
+                String.valueOf(userId),
+                String.valueOf(ENTRY_THRESHOLD),
+                UUID.randomUUID().toString(),
+                String.valueOf(TOKEN_TTL_SECONDS),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(maxActive));
+
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("입장 처리 스크립트 응답이 올바르지 않습니다.");
+        }
+        return QueueAdmissionResult.of(String.valueOf(result.get(0)), String.valueOf(result.get(1)));
+    }
+
+    // 배치 입장: 활성 집합 여유만큼 대기열 선두 ZPOPMIN → 토큰 발급 (스케줄러 전용)
+    public AdmissionBatch admitBatch(Long scheduleId, int batchSize) {
+        List<String> keys = List.of(
+                RedisKeyUtil.queueKey(scheduleId),
+                RedisKeyUtil.activeKey(scheduleId),
+                RedisKeyUtil.queueIndexKey());
+
+        List<Object> args = new ArrayList<>(7 + batchSize);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(maxActive));
+        args.add(String.valueOf(batchSize));
+        args.add(String.valueOf(TOKEN_TTL_SECONDS));
+        args.add(RedisKeyUtil.tokenKeyPrefix());
+        args.add(":" + scheduleId);
+        args.add(String.valueOf(scheduleId));
+        for (int i = 0; i < batchSize; i++) {
+            args.add(UUID.randomUUID().toString());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = redisTemplate.execute(ADMIT_BATCH_SCRIPT, keys, args.toArray());
 
-        // 대기열에서 제거
-        removeFromQueue(userId, scheduleId);
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("배치 입장 스크립트 응답이 올바르지 않습니다.");
+        }
+        return new AdmissionBatch(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+    }
 
-        return new QueueTokenResponse(token, scheduleId);
+    public record AdmissionBatch(int admitted, long remaining) {
     }
 
     // 토큰 검증: GET + 값 비교 + userId/scheduleId 바인딩 확인
@@ -73,10 +169,11 @@ public class QueueService {
         return token != null && token.equals(storedToken);
     }
 
-    // 토큰 소비: DEL (예매 성공 시 1회 사용)
+    // 토큰 소비: DEL (예매 성공 시 1회 사용) + 활성 집합에서 제거 → 다음 입장 인원 확보
     public void consumeToken(Long userId, Long scheduleId) {
         String tokenKey = RedisKeyUtil.tokenKey(userId, scheduleId);
         redisTemplate.delete(tokenKey);
+        redisTemplate.opsForZSet().remove(RedisKeyUtil.activeKey(scheduleId), String.valueOf(userId));
     }
 
     // 대기열 제거: ZREM
@@ -85,6 +182,14 @@ public class QueueService {
         redisTemplate.opsForZSet().remove(queueKey, String.valueOf(userId));
     }
 
+    @SuppressWarnings("rawtypes")
+    private static RedisScript<List> loadScript(String path) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(List.class);
+        return script;
+    }
+
     private String estimateWaitTime(long position) {
         if (position <= ENTRY_THRESHOLD) {
             return "곧 입장 가능합니다.";
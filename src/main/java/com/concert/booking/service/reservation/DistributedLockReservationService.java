@@ -11,18 +11,16 @@ import com.concert.booking.dto.reservation.ReservationDetailResponse;
 import com.concert.booking.dto.reservation.ReservationRequest;
 import com.concert.booking.dto.reservation.ReservationResponse;
 import com.concert.booking.repository.*;
-import com.concert.booking.service.queue.QueueService;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -30,117 +28,89 @@ import java.util.concurrent.TimeUnit;
 public class DistributedLockReservationService implements ReservationService {
 
     private static final int HOLD_MINUTES = 5;
-    private static final int SEAT_HOLD_TTL_SECONDS = 300; // 5분
-    private static final long LOCK_WAIT_TIME = 3; // 3초 대기
-    private static final long LOCK_LEASE_TIME = 5; // 5초 자동 해제
+    private static final String STRATEGY = "distributed";
 
     private final UserRepository userRepository;
     private final ConcertScheduleRepository concertScheduleRepository;
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
     private final ReservationSeatRepository reservationSeatRepository;
-    private final RedissonClient redissonClient;
+    private final SeatClaimStore seatClaimStore;
     private final RedisTemplate<String, String> redisTemplate;
-    private final QueueService queueService;
     private final TransactionTemplate transactionTemplate;
+    private final ReservationMetrics metrics;
 
     @Override
     public ReservationResponse reserve(Long userId, ReservationRequest request) {
-        // 1단계: Redis 재고 선검증 (atomic DECR)
-        String stockKey = RedisKeyUtil.stockKey(request.scheduleId());
-        int seatCount = request.seatIds().size();
-
-        Long remaining = redisTemplate.opsForValue().decrement(stockKey, seatCount);
-        if (remaining == null || remaining < 0) {
-            // 복원
-            redisTemplate.opsForValue().increment(stockKey, seatCount);
+        // 1단계: Redis 좌석 선점 (충돌 검사 + 좌석 점유 + 재고 차감, Lua 1 RTT)
+        // 중복 좌석 ID 제거: 스크립트는 KEYS 수만큼 재고를 차감하고 해제는 실제 삭제한 hold key 수만큼만 복원하므로
+        // [5, 5] 같은 요청이 그대로 들어가면 보상 시 재고가 누수됨
+        List<Long> sortedSeatIds = request.seatIds().stream().distinct().sorted().toList();
+        String claimToken = UUID.randomUUID().toString();
+
+        // 재고 사전 검사와 좌석 선점(락 획득)이 한 스크립트 → 선점 구간 = 재고 검사 + 락 대기
+        Timer.Sample claimSample = metrics.start();
+        SeatClaimResult claim = seatClaimStore.claim(request.scheduleId(), sortedSeatIds, claimToken);
+        metrics.recordLockAcquire(STRATEGY, "seat_claim", claimSample);
+        if (claim.status() == SeatClaimResult.Status.CONFLICT) {
+            metrics.recordContention(STRATEGY, "claim_conflict");
+            throw new SeatNotAvailableException(
+                    "선택한 좌석 중 이미 예매된 좌석이 있습니다: " + claim.conflictedSeatIds());
+        }
+        if (claim.status() == SeatClaimResult.Status.SOLD_OUT) {
             throw new SoldOutException("잔여 좌석이 부족합니다.");
         }
 
-        // 2단계: 좌석별 분산 락 (Redisson MultiLock)
-        List<Long> sortedSeatIds = request.seatIds().stream().sorted().toList();
-
-        List<RLock> locks = sortedSeatIds.stream()
-                .map(id -> redissonClient.getLock("lock:seat:" + id))
-                .toList();
-
-        RLock multiLock = redissonClient.getMultiLock(locks.toArray(new RLock[0]));
-
+        // 2단계: DB 트랜잭션 (선점한 좌석은 다른 요청이 진입하지 못하므로 좌석 락 불필요)
+        // 락 보유 구간 = 선점 성공 → DB 커밋(또는 보상 해제) 완료
+        Timer.Sample holdSample = metrics.start();
+        ReservationResponse response;
         try {
-            if (!multiLock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS)) {
-                // 락 획득 실패 → 재고 복원
-                redisTemplate.opsForValue().increment(stockKey, seatCount);
-                throw new SeatNotAvailableException("좌석 잠금 획득에 실패했습니다. 다시 시도해주세요.");
-            }
-
-            try {
-                // 3단계: DB 트랜잭션 (락 내부에서 실행)
-                ReservationResponse response = transactionTemplate.execute(status -> {
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-                    ConcertSchedule schedule = concertScheduleRepository.findByIdForUpdate(request.scheduleId())
-                            .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다."));
-
-                    // 락 없는 일반 SELECT + All-or-Nothing 검증
-                    List<Seat> seats = seatRepository.findAllByIdInAndAvailable(sortedSeatIds);
-                    if (seats.size() != sortedSeatIds.size()) {
-                        throw new SeatNotAvailableException("선택한 좌석 중 이미 예매된 좌석이 있습니다.");
-                    }
-
-                    // 좌석 HOLD 처리
-                    seats.forEach(Seat::hold);
-
-                    // 총 금액 계산
-                    int totalAmount = seats.stream().mapToInt(Seat::getPrice).sum();
-
-                    // 예매 생성
-                    LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(HOLD_MINUTES);
-                    Reservation reservation = Reservation.create(user, schedule, totalAmount, expiresAt);
-                    reservationRepository.save(reservation);
-
-                    // 예매-좌석 매핑
-                    for (Seat seat : seats) {
-                        ReservationSeat rs = ReservationSeat.create(reservation, seat);
-                        reservationSeatRepository.save(rs);
-                        reservation.addReservationSeat(rs);
-                    }
-
-                    // 잔여 좌석 감소
-                    schedule.decreaseAvailableSeats(seats.size());
-
-                    // Redis 좌석 임시 점유 (TTL 5분)
-                    for (Seat seat : seats) {
-                        redisTemplate.opsForValue().set(
-                                RedisKeyUtil.seatHoldKey(seat.getId()),
-                                String.valueOf(reservation.getId()),
-                                SEAT_HOLD_TTL_SECONDS, TimeUnit.SECONDS
-                        );
-                    }
-
-                    return ReservationResponse.from(reservation);
-                });
-
-                // 토큰 소비 (1회 사용)
-                queueService.consumeToken(userId, request.scheduleId());
-
-                return response;
-
-            } catch (Exception e) {
-                // DB 트랜잭션 실패 → 재고 복원
-                redisTemplate.opsForValue().increment(stockKey, seatCount);
-                throw e;
-            }
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            redisTemplate.opsForValue().increment(stockKey, seatCount);
-            throw new SeatNotAvailableException("좌석 예매 중 인터럽트가 발생했습니다.");
-        } finally {
-            if (multiLock.isHeldByCurrentThread()) {
-                multiLock.unlock();
-            }
+            Timer.Sample txSample = metrics.start();
+            response = transactionTemplate.execute(status -> {
+                User user = userRepository.findById(userId)
+                        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+                // 스케줄은 락 없이 조회 (잔여 좌석 수는 AvailableSeatsProjection이 커밋 후 재집계)
+                ConcertSchedule schedule = concertScheduleRepository.findById(request.scheduleId())
+                        .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다."));
+
+                // 락 없는 일반 SELECT + All-or-Nothing 검증
+                List<Seat> seats = seatRepository.findAllByIdInAndAvailable(sortedSeatIds);
+                if (seats.size() != sortedSeatIds.size()) {
+                    throw new SeatNotAvailableException("선택한 좌석 중 이미 예매된 좌석이 있습니다.");
+                }
+
+                // 좌석 HOLD 처리
+                seats.forEach(Seat::hold);
+
+                // 총 금액 계산
+                int totalAmount = seats.stream().mapToInt(Seat::getPrice).sum();
+
+                // 예매 생성
+                LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(HOLD_MINUTES);
+                Reservation reservation = Reservation.create(user, schedule, totalAmount, expiresAt);
+                reservationRepository.save(reservation);
+
+                // 예매-좌석 매핑
+                for (Seat seat : seats) {
+                    ReservationSeat rs = ReservationSeat.create(reservation, seat);
+                    reservationSeatRepository.save(rs);
+                    reservation.addReservationSeat(rs);
+                }
+
+                return ReservationResponse.from(reservation);
+            });
+            metrics.recordPhase(STRATEGY, "db_transaction", txSample);
+            metrics.recordPhase(STRATEGY, "lock_hold", holdSample);
+        } catch (RuntimeException e) {
+            // DB 트랜잭션 실패 → 선점 해제 + 재고 복원
+            seatClaimStore.release(request.scheduleId(), sortedSeatIds, claimToken);
+            metrics.recordPhase(STRATEGY, "lock_hold", holdSample);
+            throw e;
         }
+
+        return response;
     }
 
     @Override
@@ -186,9 +156,6 @@ public class DistributedLockReservationService implements ReservationService {
             redisTemplate.delete(RedisKeyUtil.seatHoldKey(rs.getSeat().getId()));
         }
 
-        // 잔여 좌석 복원
-        reservation.getSchedule().increaseAvailableSeats(reservationSeats.size());
-
         // Redis 재고 복원
         String stockKey = RedisKeyUtil.stockKey(reservation.getSchedule().getId());
         redisTemplate.opsForValue().increment(stockKey, reservationSeats.size());
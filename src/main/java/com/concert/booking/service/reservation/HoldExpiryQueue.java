@@ -0,0 +1,81 @@
+package com.concert.booking.service.reservation;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.event.ReservationHeldEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+
+// 좌석 점유 만료 지연 큐 (Redis Sorted Set, score = 만료 시각)
+// 예매 커밋 후 등록 → HoldExpiryWorker가 만료 시각 도래 즉시 claim/ack로 처리
+// 등록 실패/유실은 ReservationExpirationScheduler(30초 sweep)가 최종 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldExpiryQueue {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = loadScript("redis/hold_expiry_claim.lua", List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 롤백된 예매는 등록하지 않음 (커밋 후 실행)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationHeld(ReservationHeldEvent event) {
+        schedule(event.reservationId(), event.expiresAt());
+    }
+
+    public void schedule(Long reservationId, LocalDateTime expiresAt) {
+        try {
+            redisTemplate.opsForZSet().add(RedisKeyUtil.holdExpiryQueueKey(),
+                    String.valueOf(reservationId), toEpochMillis(expiresAt));
+        } catch (Exception e) {
+            // 예매 자체는 유효 — 만료는 스케줄러 sweep이 처리
+            log.warn("만료 지연 큐 등록 실패: reservationId={}", reservationId, e);
+        }
+    }
+
+    // 만료 시각이 지난 예매를 최대 limit건 claim (visibilityTimeout 안에 ack하지 않으면 재등록)
+    @SuppressWarnings("unchecked")
+    public List<Long> claim(int limit, Duration visibilityTimeout) {
+        List<String> ids = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(RedisKeyUtil.holdExpiryQueueKey(), RedisKeyUtil.holdExpiryProcessingKey()),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(limit),
+                String.valueOf(visibilityTimeout.toMillis()));
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    public void ack(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(RedisKeyUtil.holdExpiryProcessingKey(),
+                reservationIds.stream().map(String::valueOf).toArray());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static <T> RedisScript<T> loadScript(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(resultType);
+        return script;
+    }
+}
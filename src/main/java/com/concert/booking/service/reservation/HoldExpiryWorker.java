@@ -0,0 +1,61 @@
+package com.concert.booking.service.reservation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 만료 지연 큐 워커: 만료 시각 도래 후 poll 주기(기본 250ms) 안에 예매 만료 → 좌석 판매 재개
+// claim이 원자적(Lua)이라 모든 서버에서 동시에 실행해도 같은 예매를 중복 처리하지 않음 (ShedLock 불필요)
+@Slf4j
+@Component
+public class HoldExpiryWorker {
+
+    private final HoldExpiryQueue holdExpiryQueue;
+    private final ReservationExpirationScheduler expirationScheduler;
+    private final int batchSize;
+    private final Duration visibilityTimeout;
+
+    public HoldExpiryWorker(HoldExpiryQueue holdExpiryQueue,
+                            ReservationExpirationScheduler expirationScheduler,
+                            @Value("${reservation.hold-expiry.batch-size:200}") int batchSize,
+                            @Value("${reservation.hold-expiry.visibility-timeout:30s}") Duration visibilityTimeout) {
+        this.holdExpiryQueue = holdExpiryQueue;
+        this.expirationScheduler = expirationScheduler;
+        this.batchSize = batchSize;
+        this.visibilityTimeout = visibilityTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.hold-expiry.poll-interval-ms:250}")
+    public void drain() {
+        while (true) {
+            List<Long> reservationIds;
+            try {
+                reservationIds = holdExpiryQueue.claim(batchSize, visibilityTimeout);
+            } catch (Exception e) {
+                log.warn("만료 지연 큐 claim 실패", e);
+                return;
+            }
+            if (reservationIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                expirationScheduler.expire(reservationIds);
+                // 결제/취소로 만료 대상이 아니게 된 예매도 함께 ack (더 이상 처리할 필요 없음)
+                holdExpiryQueue.ack(reservationIds);
+            } catch (Exception e) {
+                // ack하지 않음 → visibility timeout 후 재등록되어 재처리
+                log.error("만료 지연 큐 처리 실패: reservationIds={}", reservationIds, e);
+                return;
+            }
+
+            if (reservationIds.size() < batchSize) {
+                return;
+            }
+        }
+    }
+}
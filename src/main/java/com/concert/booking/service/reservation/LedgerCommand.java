@@ -0,0 +1,45 @@
+package com.concert.booking.service.reservation;
+
+import com.concert.booking.dto.reservation.ReservationResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 파티션 스레드로 전달되는 원장 명령
+sealed interface LedgerCommand {
+
+    Long scheduleId();
+
+    // 좌석 선점 요청 (결과는 DB 반영 후 future로 전달)
+    // state: 대기 → 반영 중(파티션) 또는 포기(요청 스레드 시간 초과), 둘 중 먼저 CAS한 쪽만 유효
+    record Claim(Long userId, Long scheduleId, List<Long> seatIds,
+                 CompletableFuture<ReservationResponse> result, AtomicInteger state) implements LedgerCommand {
+
+        private static final int PENDING = 0;
+        private static final int WRITING = 1;
+        private static final int ABANDONED = 2;
+
+        Claim(Long userId, Long scheduleId, List<Long> seatIds, CompletableFuture<ReservationResponse> result) {
+            this(userId, scheduleId, seatIds, result, new AtomicInteger(PENDING));
+        }
+
+        // 파티션: DB 반영 시작 (요청 스레드가 이미 포기했으면 false → 반영하지 않음)
+        boolean beginWrite() {
+            return state.compareAndSet(PENDING, WRITING);
+        }
+
+        // 요청 스레드: 시간 초과 시 포기 (이미 반영 중이면 false → 결과를 기다려야 함)
+        boolean abandon() {
+            return state.compareAndSet(PENDING, ABANDONED);
+        }
+
+        boolean abandoned() {
+            return state.get() == ABANDONED;
+        }
+    }
+
+    // 좌석 반환 반영 (취소/만료 커밋 후)
+    record Release(Long scheduleId, List<Long> seatIds) implements LedgerCommand {
+    }
+}
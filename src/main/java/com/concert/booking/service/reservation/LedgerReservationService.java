@@ -0,0 +1,110 @@
+package com.concert.booking.service.reservation;
+
+import com.concert.booking.common.exception.ReservationPendingException;
+import com.concert.booking.common.exception.ReservationTimeoutException;
+import com.concert.booking.domain.SeatStatus;
+import com.concert.booking.dto.reservation.ReservationDetailResponse;
+import com.concert.booking.dto.reservation.ReservationRequest;
+import com.concert.booking.dto.reservation.ReservationResponse;
+import com.concert.booking.event.SeatStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 전략 4: 단일 쓰기 인메모리 좌석 원장
+// - 스케줄을 소유한 노드는 원장에서 좌석 판정 후 배치로 DB 반영 (DB 행 락/Redis 락 대기 없음)
+// - 소유하지 않은 노드(다른 노드가 임대 중)는 비관적 락 전략으로 처리
+// - 조회/취소는 비관적 락 전략과 동일
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerReservationService implements ReservationService {
+
+    private final SeatLedgerEngine seatLedgerEngine;
+    private final PessimisticLockReservationService fallback;
+
+    @Value("${reservation.ledger.timeout:5s}")
+    private Duration timeout;
+
+    @Override
+    public ReservationResponse reserve(Long userId, ReservationRequest request) {
+        if (!seatLedgerEngine.owns(request.scheduleId())) {
+            return fallback.reserve(userId, request);
+        }
+
+        List<Long> sortedSeatIds = request.seatIds().stream().sorted().toList();
+        LedgerCommand.Claim claim = seatLedgerEngine.submit(userId, request.scheduleId(), sortedSeatIds);
+        try {
+            return await(claim.result());
+        } catch (TimeoutException e) {
+            // 이미 반영 중이면 커밋될 수 있으므로 한 번 더 결과를 기다림
+            if (!claim.abandon()) {
+                try {
+                    return await(claim.result());
+                } catch (TimeoutException | InterruptedException stillPending) {
+                    throw pending(stillPending);
+                }
+            }
+            // DB 반영 전 취소 → 좌석 점유 없음, 재시도 안내
+            throw new ReservationTimeoutException("예매 요청이 처리되지 않았습니다. 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!claim.abandon()) {
+                throw pending(e);
+            }
+            throw new ReservationTimeoutException("예매 요청이 처리되지 않았습니다. 다시 시도해주세요.");
+        }
+    }
+
+    private ReservationResponse await(CompletableFuture<ReservationResponse> result)
+            throws TimeoutException, InterruptedException {
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("좌석 원장 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private static ReservationPendingException pending(Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        return new ReservationPendingException("예매가 처리 중입니다. 내 예매 목록을 확인해주세요.");
+    }
+
+    @Override
+    public ReservationDetailResponse getReservation(Long reservationId) {
+        return fallback.getReservation(reservationId);
+    }
+
+    @Override
+    public List<ReservationResponse> getMyReservations(Long userId) {
+        return fallback.getMyReservations(userId);
+    }
+
+    @Override
+    public void cancelReservation(Long userId, Long reservationId) {
+        fallback.cancelReservation(userId, reservationId);
+    }
+
+    // 취소/만료로 반환된 좌석을 원장에 즉시 반영 (다른 노드 반환분은 주기적 재동기화로 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        if (event.status() == SeatStatus.AVAILABLE) {
+            seatLedgerEngine.release(event.scheduleId(), List.of(event.seatId()));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.concert.booking.service.reservation;
+
+import com.concert.booking.dto.reservation.ReservationDetailResponse;
+import com.concert.booking.dto.reservation.ReservationRequest;
+import com.concert.booking.dto.reservation.ReservationResponse;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 선택된 전략을 감싸 예매 결과(outcome)와 전체 처리 시간을 기록 (구간 메트릭은 각 전략 내부에서 기록)
+@RequiredArgsConstructor
+public class MeteredReservationService implements ReservationService {
+
+    private final String strategy;
+    private final ReservationService delegate;
+    private final ReservationMetrics metrics;
+
+    @Override
+    public ReservationResponse reserve(Long userId, ReservationRequest request) {
+        Timer.Sample sample = metrics.start();
+        try {
+            ReservationResponse response = delegate.reserve(userId, request);
+            metrics.recordOutcome(strategy, request.scheduleId(), null, sample);
+            return response;
+        } catch (RuntimeException e) {
+            metrics.recordOutcome(strategy, request.scheduleId(), e, sample);
+            throw e;
+        }
+    }
+
+    @Override
+    public ReservationDetailResponse getReservation(Long reservationId) {
+        return delegate.getReservation(reservationId);
+    }
+
+    @Override
+    public List<ReservationResponse> getMyReservations(Long userId) {
+        return delegate.getMyReservations(userId);
+    }
+
+    @Override
+    public void cancelReservation(Long userId, Long reservationId) {
+        delegate.cancelReservation(userId, reservationId);
+    }
+}
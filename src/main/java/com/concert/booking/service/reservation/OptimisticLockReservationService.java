@@ -10,12 +10,16 @@ import com.concert.booking.dto.reservation.ReservationRequest;
 import com.concert.booking.dto.reservation.ReservationResponse;
 import com.concert.booking.event.ReservationCancelledEvent;
 import com.concert.booking.repository.*;
+import com.concert.booking.service.concert.SeatTakenCache;
+import com.concert.booking.service.outbox.OutboxWriter;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.RetryContext;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,13 +32,16 @@ import java.util.List;
 public class OptimisticLockReservationService implements ReservationService {
 
     private static final int HOLD_MINUTES = 5;
+    private static final String STRATEGY = "optimistic";
 
     private final UserRepository userRepository;
     private final ConcertScheduleRepository concertScheduleRepository;
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
     private final ReservationSeatRepository reservationSeatRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxWriter outboxWriter;
+    private final ReservationMetrics metrics;
+    private final SeatTakenCache seatTakenCache;
 
     @Override
     @Retryable(
@@ -44,6 +51,17 @@ public class OptimisticLockReservationService implements ReservationService {
     )
     @Transactional
     public ReservationResponse reserve(Long userId, ReservationRequest request) {
+        // 재시도 진입 = 직전 시도가 커밋 시 버전 충돌
+        RetryContext retryContext = RetrySynchronizationManager.getContext();
+        if (retryContext != null && retryContext.getRetryCount() > 0) {
+            metrics.recordRetry(STRATEGY);
+            metrics.recordContention(STRATEGY, "version_conflict");
+            // 충돌 상대의 HOLD 커밋이 이 노드에서 일어났으면 로컬 캐시에 기록됨 → 좌석 재조회 없이 종료
+            if (seatTakenCache.isTakenLocally(request.seatIds())) {
+                throw new SeatNotAvailableException("선택한 좌석 중 이미 예매된 좌석이 있습니다.");
+            }
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
@@ -54,12 +72,16 @@ public class OptimisticLockReservationService implements ReservationService {
         List<Long> sortedSeatIds = request.seatIds().stream().sorted().toList();
 
         // 락 없이 좌석 조회 (커밋 시 @Version으로 충돌 감지)
+        Timer.Sample read = metrics.start();
         List<Seat> seats = seatRepository.findAllByIdInAndAvailable(sortedSeatIds);
+        metrics.recordPhase(STRATEGY, "seat_read", read);
 
         // All-or-Nothing
         if (seats.size() != sortedSeatIds.size()) {
             throw new SeatNotAvailableException("선택한 좌석 중 이미 예매된 좌석이 있습니다.");
         }
+        // 커밋 구간: 좌석 UPDATE(버전 검사)의 행 락 대기 + COMMIT
+        metrics.recordCommitPhase(STRATEGY);
 
         // 좌석 HOLD 처리
         seats.forEach(Seat::hold);
@@ -79,11 +101,9 @@ public class OptimisticLockReservationService implements ReservationService {
             reservation.addReservationSeat(rs);
         }
 
-        // 잔여 좌석 감소
-        schedule.decreaseAvailableSeats(seats.size());
-
         return ReservationResponse.from(reservation);
-        // 커밋 시 @Version 불일치 → ObjectOptimisticLockingFailureException → @Retryable 재시도
+        // 커밋 시 좌석 @Version 불일치 → ObjectOptimisticLockingFailureException → @Retryable 재시도
+        // (스케줄 행은 수정하지 않으므로 서로 다른 좌석 예매끼리는 충돌하지 않음)
     }
 
     @Override
@@ -128,26 +148,19 @@ public class OptimisticLockReservationService implements ReservationService {
             rs.getSeat().release();
         }
 
-        reservation.getSchedule().increaseAvailableSeats(reservationSeats.size());
-
-        // Kafka 이벤트 발행 (알림/통계용)
-        try {
-            List<Long> seatIds = reservationSeats.stream()
-                    .map(rs -> rs.getSeat().getId())
-                    .toList();
-
-            ReservationCancelledEvent event = new ReservationCancelledEvent(
-                    reservation.getId(),
-                    reservation.getUser().getId(),
-                    reservation.getSchedule().getId(),
-                    seatIds,
-                    reservation.getTotalAmount(),
-                    "USER_CANCELLED"
-            );
-            kafkaTemplate.send("reservation.cancelled",
-                    String.valueOf(reservation.getId()), event);
-        } catch (Exception e) {
-            log.warn("예매 취소 이벤트 발행 실패: reservationId={}", reservationId, e);
-        }
+        // 취소 이벤트 (알림/통계용): 같은 트랜잭션에 아웃박스 기록 → OutboxRelay가 Kafka 발행
+        List<Long> seatIds = reservationSeats.stream()
+                .map(rs -> rs.getSeat().getId())
+                .toList();
+
+        ReservationCancelledEvent event = new ReservationCancelledEvent(
+                reservation.getId(),
+                reservation.getUser().getId(),
+                reservation.getSchedule().getId(),
+                seatIds,
+                reservation.getTotalAmount(),
+                "USER_CANCELLED"
+        );
+        outboxWriter.append("reservation.cancelled", String.valueOf(reservation.getId()), event);
     }
 }
@@ -10,14 +10,17 @@ import com.concert.booking.dto.reservation.ReservationRequest;
 import com.concert.booking.dto.reservation.ReservationResponse;
 import com.concert.booking.event.ReservationCancelledEvent;
 import com.concert.booking.repository.*;
+import com.concert.booking.service.outbox.OutboxWriter;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -25,13 +28,17 @@ import java.util.List;
 public class PessimisticLockReservationService implements ReservationService {
 
     private static final int HOLD_MINUTES = 5;
+    private static final String STRATEGY = "pessimistic";
+    // 경합 없는 PK 행 락은 수 ms 이내 → 이보다 오래 기다렸으면 다른 트랜잭션의 행 락 대기로 집계
+    private static final long ROW_LOCK_CONTENTION_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
 
     private final UserRepository userRepository;
     private final ConcertScheduleRepository concertScheduleRepository;
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
     private final ReservationSeatRepository reservationSeatRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxWriter outboxWriter;
+    private final ReservationMetrics metrics;
 
     @Override
     @Transactional
@@ -39,20 +46,35 @@ public class PessimisticLockReservationService implements ReservationService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // 스케줄도 비관적 락으로 조회 (availableSeats 동시 수정 방지)
-        ConcertSchedule schedule = concertScheduleRepository.findByIdForUpdate(request.scheduleId())
+        // 스케줄은 락 없이 조회 (잔여 좌석 수는 AvailableSeatsProjection이 커밋 후 재집계)
+        ConcertSchedule schedule = concertScheduleRepository.findById(request.scheduleId())
                 .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다."));
 
         // 데드락 방지: 좌석 ID 정렬
         List<Long> sortedSeatIds = request.seatIds().stream().sorted().toList();
 
-        // 비관적 락으로 좌석 조회 (SELECT FOR UPDATE)
-        List<Seat> seats = seatRepository.findAllByIdInAndAvailableForUpdate(sortedSeatIds);
+        // 비관적 락으로 좌석 조회 (SELECT FOR UPDATE) — 행 락 대기 시간 측정
+        Timer.Sample lockWait = metrics.start();
+        List<Seat> seats;
+        boolean lockFailed = false;
+        try {
+            seats = seatRepository.findAllByIdInAndAvailableForUpdate(sortedSeatIds);
+        } catch (PessimisticLockingFailureException e) {
+            lockFailed = true;
+            throw e;
+        } finally {
+            long waitedNanos = metrics.recordLockAcquire(STRATEGY, "row", lockWait);
+            // 락 실패(타임아웃/데드락)뿐 아니라 정상 획득이라도 오래 기다린 경우 경합으로 집계
+            if (lockFailed || waitedNanos >= ROW_LOCK_CONTENTION_NANOS) {
+                metrics.recordContention(STRATEGY, "row_lock");
+            }
+        }
 
         // All-or-Nothing: 요청한 좌석 수와 조회된 좌석 수 비교
         if (seats.size() != sortedSeatIds.size()) {
             throw new SeatNotAvailableException("선택한 좌석 중 이미 예매된 좌석이 있습니다.");
         }
+        metrics.recordCommitPhase(STRATEGY);
 
         // 좌석 HOLD 처리
         seats.forEach(Seat::hold);
@@ -72,9 +94,6 @@ public class PessimisticLockReservationService implements ReservationService {
             reservation.addReservationSeat(rs);
         }
 
-        // 잔여 좌석 감소
-        schedule.decreaseAvailableSeats(seats.size());
-
         return ReservationResponse.from(reservation);
     }
 
@@ -122,27 +141,19 @@ public class PessimisticLockReservationService implements ReservationService {
             rs.getSeat().release();
         }
 
-        // 잔여 좌석 복원
-        reservation.getSchedule().increaseAvailableSeats(reservationSeats.size());
+        // 취소 이벤트 (알림/통계용): 같은 트랜잭션에 아웃박스 기록 → OutboxRelay가 Kafka 발행
+        List<Long> seatIds = reservationSeats.stream()
+                .map(rs -> rs.getSeat().getId())
+                .toList();
 
-        // Kafka 이벤트 발행 (알림/통계용)
-        try {
-            List<Long> seatIds = reservationSeats.stream()
-                    .map(rs -> rs.getSeat().getId())
-                    .toList();
-
-            ReservationCancelledEvent event = new ReservationCancelledEvent(
-                    reservation.getId(),
-                    reservation.getUser().getId(),
-                    reservation.getSchedule().getId(),
-                    seatIds,
-                    reservation.getTotalAmount(),
-                    "USER_CANCELLED"
-            );
-            kafkaTemplate.send("reservation.cancelled",
-                    String.valueOf(reservation.getId()), event);
-        } catch (Exception e) {
-            log.warn("예매 취소 이벤트 발행 실패: reservationId={}", reservationId, e);
-        }
+        ReservationCancelledEvent event = new ReservationCancelledEvent(
+                reservation.getId(),
+                reservation.getUser().getId(),
+                reservation.getSchedule().getId(),
+                seatIds,
+                reservation.getTotalAmount(),
+                "USER_CANCELLED"
+        );
+        outboxWriter.append("reservation.cancelled", String.valueOf(reservation.getId()), event);
     }
 }
@@ -1,73 +1,161 @@
 package com.concert.booking.service.reservation;
 
-import com.concert.booking.domain.Reservation;
-import com.concert.booking.domain.ReservationStatus;
 import com.concert.booking.event.ReservationCancelledEvent;
 import com.concert.booking.repository.ReservationRepository;
-import lombok.RequiredArgsConstructor;
+import com.concert.booking.repository.ReservationRepository.ExpiredReservation;
+import com.concert.booking.repository.ReservationSeatRepository;
+import com.concert.booking.repository.ReservationSeatRepository.SeatIdRow;
+import com.concert.booking.service.outbox.OutboxWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ReservationExpirationScheduler {
 
+    // lockAtMostFor(30s) 안에 끝나도록 1회 실행 시간 상한
+    private static final Duration RUN_BUDGET = Duration.ofSeconds(20);
+
     private final ReservationRepository reservationRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ReservationSeatRepository reservationSeatRepository;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter sweepExpiredCounter;
+    private final Counter queueExpiredCounter;
+    private final Timer chunkTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ReservationExpirationScheduler(ReservationRepository reservationRepository,
+                                          ReservationSeatRepository reservationSeatRepository,
+                                          OutboxWriter outboxWriter,
+                                          TransactionTemplate transactionTemplate,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${reservation.expiration.batch-size:500}") int batchSize) {
+        this.reservationRepository = reservationRepository;
+        this.reservationSeatRepository = reservationSeatRepository;
+        this.outboxWriter = outboxWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
 
-    // 30초마다 실행, ShedLock으로 서버 2대 중복 실행 방지
+        // 처리량: 만료 처리 건수(경로별), 청크 처리 시간 / 지연: 만료 시각이 지났는데 남아 있는 가장 오래된 PENDING
+        // source=sweep 증가는 지연 큐가 놓친 만료 (정상 상태에서는 0에 가까워야 함)
+        this.sweepExpiredCounter = Counter.builder("reservation.expiration.expired")
+                .description("만료 처리된 예매 수")
+                .tag("source", "sweep")
+                .register(meterRegistry);
+        this.queueExpiredCounter = Counter.builder("reservation.expiration.expired")
+                .description("만료 처리된 예매 수")
+                .tag("source", "delay-queue")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("reservation.expiration.chunk")
+                .description("만료 청크 1개 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("reservation.expiration.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 미처리 만료 예매의 지연(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    // 안전망 sweep: 지연 큐(HoldExpiryWorker)가 놓친 만료를 30초마다 정리, ShedLock으로 서버 2대 중복 실행 방지
+    // 청크 단위(batchSize) 트랜잭션: UPDATE ... RETURNING 1회 + 좌석 ID 조회 1회 + 아웃박스 INSERT 배치
     @Scheduled(fixedRate = 30000)
     @SchedulerLock(name = "expireReservations", lockAtLeastFor = "10s", lockAtMostFor = "30s")
-    @Transactional
     public void expireReservations() {
         LocalDateTime now = LocalDateTime.now();
-        List<Reservation> expiredReservations =
-                reservationRepository.findByStatusAndExpiresAtBefore(ReservationStatus.PENDING, now);
+        long deadline = System.nanoTime() + RUN_BUDGET.toNanos();
+        long afterId = 0;
+        int total = 0;
+
+        while (System.nanoTime() < deadline) {
+            long cursor = afterId;
+            List<ReservationCancelledEvent> events = chunkTimer.record(() -> expireChunk(now, cursor));
+            if (events == null || events.isEmpty()) {
+                break;
+            }
+
+            sweepExpiredCounter.increment(events.size());
+            total += events.size();
+            afterId = events.get(events.size() - 1).reservationId();
 
-        if (expiredReservations.isEmpty()) {
-            return;
+            if (events.size() < batchSize) {
+                break;
+            }
         }
 
-        log.info("만료 예매 처리 시작: {}건", expiredReservations.size());
-
-        for (Reservation reservation : expiredReservations) {
-            try {
-                // PENDING → EXPIRED
-                reservation.expire();
-
-                // 좌석 ID 추출
-                List<Long> seatIds = reservation.getReservationSeats().stream()
-                        .map(rs -> rs.getSeat().getId())
-                        .toList();
-
-                // Kafka 이벤트 발행 → Consumer(seat-release)가 좌석 반환 처리
-                ReservationCancelledEvent event = new ReservationCancelledEvent(
-                        reservation.getId(),
-                        reservation.getUser().getId(),
-                        reservation.getSchedule().getId(),
-                        seatIds,
-                        reservation.getTotalAmount(),
-                        "EXPIRED"
-                );
+        updateLag();
+        if (total > 0) {
+            log.info("만료 예매 처리 완료: {}건", total);
+        }
+    }
 
-                kafkaTemplate.send("reservation.cancelled",
-                        String.valueOf(reservation.getId()), event);
+    // 지연 큐 워커가 claim한 예매 만료 (트랜잭션 1개, 이벤트는 같은 트랜잭션의 아웃박스로)
+    public int expire(List<Long> reservationIds) {
+        List<ReservationCancelledEvent> events = chunkTimer.record(() -> transactionTemplate.execute(status ->
+                appendEvents(toEvents(reservationRepository.expirePendingByIds(reservationIds, LocalDateTime.now())))));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        queueExpiredCounter.increment(events.size());
+        return events.size();
+    }
+
+    private List<ReservationCancelledEvent> expireChunk(LocalDateTime now, long afterId) {
+        return transactionTemplate.execute(status ->
+                appendEvents(toEvents(reservationRepository.expirePendingChunk(now, afterId, batchSize))));
+    }
 
-                log.info("만료 예매 이벤트 발행: reservationId={}", reservation.getId());
+    private List<ReservationCancelledEvent> toEvents(List<ExpiredReservation> expired) {
+        if (expired.isEmpty()) {
+            return List.of();
+        }
 
-            } catch (Exception e) {
-                log.error("만료 예매 처리 실패: reservationId={}", reservation.getId(), e);
-            }
+        List<Long> reservationIds = expired.stream().map(ExpiredReservation::getId).toList();
+        Map<Long, List<Long>> seatIds = reservationSeatRepository.findSeatIdsByReservationIdIn(reservationIds).stream()
+                .collect(Collectors.groupingBy(SeatIdRow::getReservationId,
+                        Collectors.mapping(SeatIdRow::getSeatId, Collectors.toList())));
+
+        // RETURNING 순서는 보장되지 않으므로 id 순으로 정렬 (keyset 커서 = 마지막 id)
+        return expired.stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .map(r -> new ReservationCancelledEvent(
+                        r.getId(),
+                        r.getUserId(),
+                        r.getScheduleId(),
+                        seatIds.getOrDefault(r.getId(), List.of()),
+                        r.getTotalAmount(),
+                        "EXPIRED"
+                ))
+                .toList();
+    }
+
+    // 만료와 같은 트랜잭션에 아웃박스 기록 → OutboxRelay 발행 → Consumer(seat-release)가 좌석 반환 처리
+    private List<ReservationCancelledEvent> appendEvents(List<ReservationCancelledEvent> events) {
+        for (ReservationCancelledEvent event : events) {
+            outboxWriter.append("reservation.cancelled", String.valueOf(event.reservationId()), event);
         }
+        return events;
+    }
 
-        log.info("만료 예매 처리 완료: {}건", expiredReservations.size());
+    private void updateLag() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldest = reservationRepository.findOldestOverdueExpiresAt(now);
+        lagSeconds.set(oldest != null ? Duration.between(oldest, now).toSeconds() : 0);
     }
 }
@@ -0,0 +1,155 @@
+package com.concert.booking.service.reservation;
+
+import com.concert.booking.common.exception.ReservationTimeoutException;
+import com.concert.booking.common.exception.SeatNotAvailableException;
+import com.concert.booking.common.exception.SoldOutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 예매 전략별 구간(phase) 메트릭
+// - reservation.phase.duration{strategy, phase}: 전략 내부 구간 (선점, DB 트랜잭션, 커밋 등)
+// - lock.acquire.duration{strategy, lockType}: 락 대기 시간
+// - lock.contention{strategy, reason}: 락 경합 발생 (행 락 실패, 버전 충돌, 선점 충돌)
+// - reservation.retry{strategy}: 낙관적 락 재시도
+// - reservation.attempt{strategy, scheduleId, outcome} / reservation.duration{strategy, outcome}: 결과별 건수/응답 시간
+//   scheduleId 태그 카디널리티 제한: 스케줄 확인 전 실패(error)는 unknown, 서로 다른 값 MAX_SCHEDULE_TAGS개 초과분은 other
+@Component
+@RequiredArgsConstructor
+public class ReservationMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_SOLD_OUT = "sold_out";
+    public static final String OUTCOME_SEAT_CONFLICT = "seat_conflict";
+    public static final String OUTCOME_LOCK_TIMEOUT = "lock_timeout";
+    public static final String OUTCOME_ERROR = "error";
+
+    static final String SCHEDULE_UNKNOWN = "unknown";
+    static final String SCHEDULE_OTHER = "other";
+    static final int MAX_SCHEDULE_TAGS = 500;
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> scheduleTags = ConcurrentHashMap.newKeySet();
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordPhase(String strategy, String phase, Timer.Sample sample) {
+        sample.stop(Timer.builder("reservation.phase.duration")
+                .description("예매 전략 내부 구간별 소요 시간")
+                .tag("strategy", strategy)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    // 대기 시간(ns) 반환 → 호출 측에서 경합 여부 판단
+    public long recordLockAcquire(String strategy, String lockType, Timer.Sample sample) {
+        return sample.stop(Timer.builder("lock.acquire.duration")
+                .description("락 획득 대기 시간")
+                .tag("strategy", strategy)
+                .tag("lockType", lockType)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public void recordContention(String strategy, String reason) {
+        Counter.builder("lock.contention")
+                .description("락 경합 발생 수")
+                .tag("strategy", strategy)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordRetry(String strategy) {
+        Counter.builder("reservation.retry")
+                .description("예매 재시도 수")
+                .tag("strategy", strategy)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 현재 트랜잭션의 커밋 구간(beforeCommit → afterCompletion) 측정: flush + 버전 검사 + COMMIT
+    public void recordCommitPhase(String strategy) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private Timer.Sample sample;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                sample = start();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (sample != null) {
+                    recordPhase(strategy, status == STATUS_COMMITTED ? "commit" : "commit_failed", sample);
+                }
+            }
+        });
+    }
+
+    public void recordOutcome(String strategy, Long scheduleId, Throwable error, Timer.Sample sample) {
+        String outcome = outcomeOf(error);
+        Counter.builder("reservation.attempt")
+                .description("예매 시도 결과")
+                .tag("strategy", strategy)
+                .tag("scheduleId", scheduleTag(scheduleId, outcome))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+        sample.stop(Timer.builder("reservation.duration")
+                .description("예매 처리 시간 (전략 전체)")
+                .tag("strategy", strategy)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    // 임의의 scheduleId 요청이 시계열을 무한히 만들지 않도록 제한
+    private String scheduleTag(Long scheduleId, String outcome) {
+        if (scheduleId == null || OUTCOME_ERROR.equals(outcome)) {
+            return SCHEDULE_UNKNOWN;
+        }
+        String tag = String.valueOf(scheduleId);
+        if (scheduleTags.contains(tag)) {
+            return tag;
+        }
+        if (scheduleTags.size() >= MAX_SCHEDULE_TAGS) {
+            return SCHEDULE_OTHER;
+        }
+        scheduleTags.add(tag);
+        return tag;
+    }
+
+    static String outcomeOf(Throwable error) {
+        if (error == null) {
+            return OUTCOME_SUCCESS;
+        }
+        if (error instanceof SoldOutException) {
+            return OUTCOME_SOLD_OUT;
+        }
+        // 재시도 소진된 버전 충돌 = 다른 요청이 같은 좌석을 먼저 가져감
+        if (error instanceof SeatNotAvailableException || error instanceof OptimisticLockingFailureException) {
+            return OUTCOME_SEAT_CONFLICT;
+        }
+        // 행 락 대기 실패 (lock_timeout, 데드락 감지 등), 원장 큐 대기 시간 초과
+        if (error instanceof PessimisticLockingFailureException || error instanceof ReservationTimeoutException) {
+            return OUTCOME_LOCK_TIMEOUT;
+        }
+        return OUTCOME_ERROR;
+    }
+}
@@ -0,0 +1,28 @@
+package com.concert.booking.service.reservation;
+
+import java.util.List;
+
+// 좌석 선점 스크립트 결과
+public record SeatClaimResult(
+        Status status,
+        List<Long> conflictedSeatIds,
+        long remainingStock
+) {
+
+    public enum Status {
+        CLAIMED, CONFLICT, SOLD_OUT
+    }
+
+    static SeatClaimResult from(List<?> raw) {
+        Status status = Status.valueOf(String.valueOf(raw.get(0)));
+        return switch (status) {
+            case CLAIMED -> new SeatClaimResult(status, List.of(), -1);
+            case CONFLICT -> new SeatClaimResult(status,
+                    raw.subList(1, raw.size()).stream()
+                            .map(id -> Long.parseLong(String.valueOf(id)))
+                            .toList(),
+                    -1);
+            case SOLD_OUT -> new SeatClaimResult(status, List.of(), Long.parseLong(String.valueOf(raw.get(1))));
+        };
+    }
+}
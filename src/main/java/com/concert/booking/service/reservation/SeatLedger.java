@@ -0,0 +1,45 @@
+package com.concert.booking.service.reservation;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 스케줄 1개의 인메모리 좌석 원장 — 소유 파티션 스레드에서만 접근 (락 없음)
+class SeatLedger {
+
+    private final Long scheduleId;
+    private final Set<Long> seatIds;
+    private final Set<Long> taken = new HashSet<>();
+
+    SeatLedger(Long scheduleId, Collection<Long> seatIds, Collection<Long> takenSeatIds) {
+        this.scheduleId = scheduleId;
+        this.seatIds = new HashSet<>(seatIds);
+        this.taken.addAll(takenSeatIds);
+    }
+
+    Long scheduleId() {
+        return scheduleId;
+    }
+
+    // 전체 가용 시 점유 표시 후 true, 하나라도 불가하면 변경 없이 false (All-or-Nothing)
+    boolean tryTake(List<Long> requested) {
+        for (Long seatId : requested) {
+            if (!seatIds.contains(seatId) || taken.contains(seatId)) {
+                return false;
+            }
+        }
+        taken.addAll(requested);
+        return true;
+    }
+
+    void release(Collection<Long> released) {
+        released.forEach(taken::remove);
+    }
+
+    // DB 기준으로 점유 상태 재동기화 (다른 노드의 취소/만료 반영)
+    void resync(Collection<Long> takenSeatIds) {
+        taken.clear();
+        taken.addAll(takenSeatIds);
+    }
+}
@@ -0,0 +1,274 @@
+package com.concert.booking.service.reservation;
+
+import com.concert.booking.common.exception.SeatNotAvailableException;
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.dto.reservation.ReservationResponse;
+import com.concert.booking.repository.SeatRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 스케줄 파티션별 단일 쓰기 스레드 + 인메모리 좌석 원장
+// - 요청 스레드는 bounded 큐(링 버퍼)에 명령만 넣고 결과 future를 대기
+// - 파티션 스레드가 큐를 배치로 꺼내 원장에서 즉시 판정 → 승인분만 SeatLedgerWriter로 일괄 반영
+// - 스케줄 소유권은 Redis 임대(ledger:owner:schedule:{id})로 노드 1개에 고정, 미소유 시 호출자가 fallback
+@Slf4j
+@Component
+public class SeatLedgerEngine {
+
+    private static final RedisScript<Long> LEASE_SCRIPT = loadScript("redis/ledger_lease.lua");
+
+    private final SeatLedgerWriter writer;
+    private final SeatRepository seatRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final int partitionCount;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final Duration leaseTime;
+    private final Duration resyncInterval;
+
+    // scheduleId → 임대 만료 시각(ms), 요청 스레드의 소유 여부 판단용
+    private final Map<Long, Long> leases = new ConcurrentHashMap<>();
+    private volatile Partition[] partitions;
+
+    public SeatLedgerEngine(SeatLedgerWriter writer,
+                            SeatRepository seatRepository,
+                            RedisTemplate<String, String> redisTemplate,
+                            @Value("${reservation.ledger.partitions:4}") int partitionCount,
+                            @Value("${reservation.ledger.queue-capacity:4096}") int queueCapacity,
+                            @Value("${reservation.ledger.max-batch-size:256}") int maxBatchSize,
+                            @Value("${reservation.ledger.lease-time:10s}") Duration leaseTime,
+                            @Value("${reservation.ledger.resync-interval:5s}") Duration resyncInterval) {
+        this.writer = writer;
+        this.seatRepository = seatRepository;
+        this.redisTemplate = redisTemplate;
+        this.partitionCount = partitionCount;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.leaseTime = leaseTime;
+        this.resyncInterval = resyncInterval;
+    }
+
+    // 이 노드가 스케줄 원장을 소유하는지 확인 (임대 유효기간 내 캐시, 만료 임박 시 Redis에서 획득/갱신)
+    public boolean owns(Long scheduleId) {
+        Long expiresAt = leases.get(scheduleId);
+        long now = System.currentTimeMillis();
+        if (expiresAt != null && expiresAt - now > leaseTime.toMillis() / 3) {
+            return true;
+        }
+        return acquireLease(scheduleId);
+    }
+
+    // 결과는 claim.result()로 대기, 시간 초과 시 claim.abandon()으로 DB 반영 전 취소
+    LedgerCommand.Claim submit(Long userId, Long scheduleId, List<Long> seatIds) {
+        CompletableFuture<ReservationResponse> result = new CompletableFuture<>();
+        LedgerCommand.Claim claim = new LedgerCommand.Claim(userId, scheduleId, seatIds, result);
+        if (!partitionOf(scheduleId).queue.offer(claim)) {
+            result.completeExceptionally(new SeatNotAvailableException("예매 요청이 많아 처리할 수 없습니다. 다시 시도해주세요."));
+        }
+        return claim;
+    }
+
+    // 좌석 반환 반영 (원장을 보유한 경우만, 큐가 가득 차면 주기적 재동기화로 반영)
+    public void release(Long scheduleId, List<Long> seatIds) {
+        if (!leases.containsKey(scheduleId)) {
+            return;
+        }
+        partitionOf(scheduleId).queue.offer(new LedgerCommand.Release(scheduleId, seatIds));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Partition[] current = partitions;
+        if (current == null) {
+            return;
+        }
+        for (Partition partition : current) {
+            partition.running = false;
+            partition.thread.interrupt();
+        }
+        // 소유권 즉시 반납 → 다른 노드가 임대 만료를 기다리지 않고 인수
+        for (Long scheduleId : leases.keySet()) {
+            redisTemplate.delete(RedisKeyUtil.ledgerOwnerKey(scheduleId));
+        }
+    }
+
+    private boolean acquireLease(Long scheduleId) {
+        Long acquired = redisTemplate.execute(LEASE_SCRIPT,
+                List.of(RedisKeyUtil.ledgerOwnerKey(scheduleId)),
+                nodeId, String.valueOf(leaseTime.toMillis()));
+        if (acquired != null && acquired == 1L) {
+            leases.put(scheduleId, System.currentTimeMillis() + leaseTime.toMillis());
+            return true;
+        }
+        leases.remove(scheduleId);
+        return false;
+    }
+
+    private Partition partitionOf(Long scheduleId) {
+        Partition[] current = partitions;
+        if (current == null) {
+            current = startPartitions();
+        }
+        return current[(int) Math.floorMod(scheduleId, (long) current.length)];
+    }
+
+    // ledger 전략 사용 시에만 스레드 생성
+    private synchronized Partition[] startPartitions() {
+        if (partitions == null) {
+            Partition[] created = new Partition[partitionCount];
+            for (int i = 0; i < partitionCount; i++) {
+                created[i] = new Partition(i);
+                created[i].thread.start();
+            }
+            partitions = created;
+            log.info("좌석 원장 파티션 시작: {}개, nodeId={}", partitionCount, nodeId);
+        }
+        return partitions;
+    }
+
+    private static RedisScript<Long> loadScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // 파티션: 단일 스레드가 자신의 스케줄 원장을 독점 (원장 접근에 락 불필요)
+    private class Partition implements Runnable {
+
+        private final BlockingQueue<LedgerCommand> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Map<Long, SeatLedger> ledgers = new HashMap<>();
+        private final Thread thread;
+        private volatile boolean running = true;
+        private long lastMaintenance = System.currentTimeMillis();
+
+        Partition(int index) {
+            this.thread = Thread.ofPlatform()
+                    .name("seat-ledger-" + index)
+                    .daemon(true)
+                    .unstarted(this);
+        }
+
+        @Override
+        public void run() {
+            List<LedgerCommand> batch = new ArrayList<>(maxBatchSize);
+            while (running) {
+                try {
+                    LedgerCommand first = queue.poll(resyncInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, maxBatchSize - 1);
+                        process(batch);
+                        batch.clear();
+                    }
+                    maintain();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    // 파티션 스레드는 종료되지 않아야 함 → 남은 요청 실패 처리 후 계속
+                    log.error("좌석 원장 처리 실패", e);
+                    batch.forEach(command -> fail(command, e));
+                    batch.clear();
+                }
+            }
+        }
+
+        private void process(List<LedgerCommand> batch) {
+            List<LedgerCommand.Claim> accepted = new ArrayList<>(batch.size());
+
+            // 1. 인메모리 판정 (마이크로초 단위)
+            for (LedgerCommand command : batch) {
+                SeatLedger ledger = ledgerOf(command.scheduleId());
+                if (command instanceof LedgerCommand.Release release) {
+                    ledger.release(release.seatIds());
+                } else if (command instanceof LedgerCommand.Claim claim) {
+                    if (claim.abandoned()) {
+                        continue;
+                    }
+                    if (ledger.tryTake(claim.seatIds())) {
+                        accepted.add(claim);
+                    } else {
+                        claim.result().completeExceptionally(
+                                new SeatNotAvailableException("선택한 좌석 중 이미 예매된 좌석이 있습니다."));
+                    }
+                }
+            }
+
+            // 2. 반영 시작 표시: 그 사이 요청 스레드가 포기(시간 초과)한 요청은 원장 점유만 해제하고 제외
+            accepted.removeIf(claim -> {
+                if (claim.beginWrite()) {
+                    return false;
+                }
+                ledgerOf(claim.scheduleId()).release(claim.seatIds());
+                return true;
+            });
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            // 3. 승인분 일괄 DB 반영 (group commit), 실패 요청은 원장 점유 해제
+            List<Object> results = writer.persist(accepted);
+            for (int i = 0; i < accepted.size(); i++) {
+                LedgerCommand.Claim claim = accepted.get(i);
+                Object result = results.get(i);
+                if (result instanceof ReservationResponse response) {
+                    claim.result().complete(response);
+                } else {
+                    ledgerOf(claim.scheduleId()).release(claim.seatIds());
+                    claim.result().completeExceptionally((Throwable) result);
+                }
+            }
+        }
+
+        // 주기적으로 임대 갱신 + DB 기준 재동기화, 소유권 상실 시 원장 폐기
+        private void maintain() {
+            long now = System.currentTimeMillis();
+            if (now - lastMaintenance < resyncInterval.toMillis()) {
+                return;
+            }
+            lastMaintenance = now;
+
+            Iterator<SeatLedger> it = ledgers.values().iterator();
+            while (it.hasNext()) {
+                SeatLedger ledger = it.next();
+                if (!acquireLease(ledger.scheduleId())) {
+                    log.info("좌석 원장 소유권 상실: scheduleId={}", ledger.scheduleId());
+                    it.remove();
+                    continue;
+                }
+                ledger.resync(seatRepository.findUnavailableIdsByScheduleId(ledger.scheduleId()));
+            }
+        }
+
+        private SeatLedger ledgerOf(Long scheduleId) {
+            return ledgers.computeIfAbsent(scheduleId, id -> new SeatLedger(
+                    id,
+                    seatRepository.findIdsByScheduleId(id),
+                    seatRepository.findUnavailableIdsByScheduleId(id)
+            ));
+        }
+
+        private void fail(LedgerCommand command, Exception e) {
+            if (command instanceof LedgerCommand.Claim claim && !claim.result().isDone()) {
+                claim.result().completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.concert.booking.service.reservation;
+
+import com.concert.booking.common.exception.SeatNotAvailableException;
+import com.concert.booking.domain.*;
+import com.concert.booking.dto.reservation.ReservationResponse;
+import com.concert.booking.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 원장에서 승인된 선점 요청을 DB에 일괄 반영 (group commit)
+// - 배치 전체를 트랜잭션 1개로 커밋, 실패 시 요청별 트랜잭션으로 재시도
+// - 좌석 @Version + AVAILABLE 조건 조회로 다른 경로(다른 노드 fallback 등)와의 충돌을 최종 차단
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class SeatLedgerWriter {
+
+    private static final int HOLD_MINUTES = 5;
+
+    private final UserRepository userRepository;
+    private final ConcertScheduleRepository concertScheduleRepository;
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationSeatRepository reservationSeatRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 반환: 요청 순서와 동일한 결과 (ReservationResponse 또는 RuntimeException)
+    List<Object> persist(List<LedgerCommand.Claim> claims) {
+        try {
+            return transactionTemplate.execute(status -> persistInTransaction(claims));
+        } catch (RuntimeException e) {
+            if (claims.size() == 1) {
+                return List.of(e);
+            }
+            log.warn("원장 일괄 반영 실패 → 요청별 재시도: {}건", claims.size(), e);
+            List<Object> results = new ArrayList<>(claims.size());
+            for (LedgerCommand.Claim claim : claims) {
+                results.add(persist(List.of(claim)).get(0));
+            }
+            return results;
+        }
+    }
+
+    private List<Object> persistInTransaction(List<LedgerCommand.Claim> claims) {
+        Map<Long, ConcertSchedule> schedules = new HashMap<>();
+        List<Object> results = new ArrayList<>(claims.size());
+
+        for (LedgerCommand.Claim claim : claims) {
+            ConcertSchedule schedule = schedules.computeIfAbsent(claim.scheduleId(), id ->
+                    concertScheduleRepository.findById(id)
+                            .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다.")));
+
+            // 원장과 DB 불일치 (다른 경로에서 먼저 점유) → 해당 요청만 실패
+            List<Seat> seats = seatRepository.findAllByIdInAndAvailable(claim.seatIds());
+            if (seats.size() != claim.seatIds().size()) {
+                results.add(new SeatNotAvailableException("선택한 좌석 중 이미 예매된 좌석이 있습니다."));
+                continue;
+            }
+
+            User user = userRepository.findById(claim.userId())
+                    .orElse(null);
+            if (user == null) {
+                results.add(new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+                continue;
+            }
+
+            seats.forEach(Seat::hold);
+
+            int totalAmount = seats.stream().mapToInt(Seat::getPrice).sum();
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(HOLD_MINUTES);
+            Reservation reservation = Reservation.create(user, schedule, totalAmount, expiresAt);
+            reservationRepository.save(reservation);
+
+            for (Seat seat : seats) {
+                ReservationSeat rs = ReservationSeat.create(reservation, seat);
+                reservationSeatRepository.save(rs);
+                reservation.addReservationSeat(rs);
+            }
+            results.add(ReservationResponse.from(reservation));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,252 @@
+package com.concert.booking.service.venue;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.domain.Concert;
+import com.concert.booking.domain.ConcertSchedule;
+import com.concert.booking.dto.admin.VenueProvisionRequest;
+import com.concert.booking.dto.admin.VenueProvisionResponse;
+import com.concert.booking.repository.ConcertRepository;
+import com.concert.booking.repository.ConcertScheduleRepository;
+import com.concert.booking.service.concert.SeatAvailabilityBitmap;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 대형 공연장 데이터 생성기 (5만 석 이상 스케줄, 100만 명 단위 회원)
+// - 좌석/회원: PgJDBC CopyManager로 COPY FROM STDIN 스트리밍 (행을 메모리에 모으지 않고 64KB 단위 전송)
+// - 좌석 ID: 스케줄 단위로 연속 구간 확보 (SeatAvailabilityBitmap의 offset = seatId - 기준 seatId 전제)
+// - Redis 재고/가용성 비트맵: 커밋 후 파이프라인 1회로 기록
+@Slf4j
+@Service
+public class VenueProvisioner {
+
+    public static final int MAX_SEATS = 200_000;
+    // Seat @SequenceGenerator allocationSize 및 schema.sql seats_id_seq INCREMENT BY와 동일
+    private static final int SEAT_ID_ALLOCATION = 50;
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+    private static final String DEFAULT_PASSWORD = "password123";
+
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcertRepository concertRepository;
+    private final ConcertScheduleRepository concertScheduleRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    public VenueProvisioner(DataSource dataSource,
+                            TransactionTemplate transactionTemplate,
+                            ConcertRepository concertRepository,
+                            ConcertScheduleRepository concertScheduleRepository,
+                            RedisTemplate<String, String> redisTemplate,
+                            PasswordEncoder passwordEncoder) {
+        this.dataSource = dataSource;
+        this.transactionTemplate = transactionTemplate;
+        this.concertRepository = concertRepository;
+        this.concertScheduleRepository = concertScheduleRepository;
+        this.redisTemplate = redisTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public VenueProvisionResponse provision(VenueProvisionRequest request) {
+        long start = System.nanoTime();
+        // 좌석 ID 예약 구간(seatCount)과 COPY 행 수가 같아야 함 → 상한 검사 후 int 변환
+        long requestedSeats = request.seatCount();
+        if (requestedSeats < 1 || requestedSeats > MAX_SEATS) {
+            throw new IllegalArgumentException("좌석은 1석 이상 " + MAX_SEATS + "석 이하로 생성할 수 있습니다.");
+        }
+        int seatCount = (int) requestedSeats;
+
+        // 1. 공연/스케줄/좌석 (1 트랜잭션)
+        ProvisionedSchedule provisioned = transactionTemplate.execute(status -> {
+            Concert concert = Concert.create(request.title(), "대형 공연장 부하 테스트", "생성된 공연장", "provisioner");
+            concertRepository.save(concert);
+            ConcertSchedule schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(30), LocalTime.of(19, 0), seatCount);
+            concertScheduleRepository.saveAndFlush(schedule);
+
+            long firstSeatId = copySeats(schedule.getId(), request.sections(), seatCount);
+            return new ProvisionedSchedule(concert.getId(), schedule.getId(), firstSeatId);
+        });
+
+        // 2. Redis 재고 + 빈 가용성 비트맵 (커밋 후, 파이프라인 1회)
+        seedRedis(provisioned.scheduleId(), seatCount);
+
+        // 3. 회원 (별도 트랜잭션)
+        String emailPrefix = "load-" + provisioned.scheduleId();
+        if (request.userCount() > 0) {
+            transactionTemplate.executeWithoutResult(status -> copyUsers(emailPrefix, request.userCount()));
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("공연장 프로비저닝 완료: scheduleId={}, 좌석={}, 회원={}, {}ms",
+                provisioned.scheduleId(), seatCount, request.userCount(), elapsedMillis);
+        String emailPattern = request.userCount() > 0
+                ? emailPrefix + "-{0.." + (request.userCount() - 1) + "}@load.test (비밀번호 " + DEFAULT_PASSWORD + ")"
+                : null;
+        return new VenueProvisionResponse(provisioned.concertId(), provisioned.scheduleId(), seatCount,
+                provisioned.firstSeatId(), request.userCount(), emailPattern, elapsedMillis);
+    }
+
+    private long copySeats(Long scheduleId, List<VenueProvisionRequest.Section> sections, int seatCount) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            long seatId = reserveSeatIds(connection, seatCount);
+            long firstSeatId = seatId;
+
+            CopyIn copyIn = copyManager(connection).copyIn(
+                    "COPY seats (id, schedule_id, section, row_number, seat_number, price) FROM STDIN WITH (FORMAT csv)");
+            try (CopyStream stream = new CopyStream(copyIn)) {
+                for (VenueProvisionRequest.Section section : sections) {
+                    for (int row = 1; row <= section.rows(); row++) {
+                        for (int seat = 1; seat <= section.seatsPerRow(); seat++) {
+                            stream.append(seatId++).append(',').append(scheduleId).append(',')
+                                    .append(section.name()).append(',').append(row).append(',')
+                                    .append(seat).append(',').append(section.price()).endRow();
+                        }
+                    }
+                }
+                stream.finish();
+            }
+            return firstSeatId;
+        } catch (SQLException e) {
+            throw new IllegalStateException("좌석 일괄 생성에 실패했습니다.", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    // 좌석 ID 연속 구간 확보: 시퀀스 값 1개 = Hibernate pooled 최적화기의 ID 50개 구간
+    // 연속된 시퀀스 값 k개를 받으면 [첫 값, 마지막 값] 구간은 JPA 좌석 저장과 겹치지 않음
+    private long reserveSeatIds(Connection connection, int seatCount) throws SQLException {
+        int blocks = (seatCount + SEAT_ID_ALLOCATION - 1) / SEAT_ID_ALLOCATION + 1;
+        List<Long> values = new ArrayList<>(blocks);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval('seats_id_seq') FROM generate_series(1, ?)")) {
+            statement.setInt(1, blocks);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    values.add(rs.getLong(1));
+                }
+            }
+        }
+        values.sort(null);
+        for (int i = 1; i < values.size(); i++) {
+            if (values.get(i) - values.get(i - 1) != SEAT_ID_ALLOCATION) {
+                // 다른 좌석 생성과 동시에 실행되어 구간이 끊긴 경우
+                throw new IllegalStateException("좌석 ID 구간 확보 중 동시 생성이 감지되었습니다. 다시 시도해주세요.");
+            }
+        }
+        return values.get(0);
+    }
+
+    private void copyUsers(String emailPrefix, int userCount) {
+        // BCrypt 해시 1회 생성 후 전 회원 공통 사용 (회원당 수십 ms → 100만 명이면 수 시간)
+        String password = passwordEncoder.encode(DEFAULT_PASSWORD);
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyIn copyIn = copyManager(connection).copyIn(
+                    "COPY users (email, password, nickname) FROM STDIN WITH (FORMAT csv)");
+            try (CopyStream stream = new CopyStream(copyIn)) {
+                for (int i = 0; i < userCount; i++) {
+                    stream.append(emailPrefix).append('-').append(i).append("@load.test,")
+                            .append(password).append(',')
+                            .append("load").append(i).endRow();
+                }
+                stream.finish();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("회원 일괄 생성에 실패했습니다.", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void seedRedis(Long scheduleId, int seatCount) {
+        byte[] bitmapKey = RedisKeyUtil.seatBitmapKey(scheduleId).getBytes(StandardCharsets.UTF_8);
+        byte[] stockKey = RedisKeyUtil.stockKey(scheduleId).getBytes(StandardCharsets.UTF_8);
+        byte[] emptyBitmap = new byte[(seatCount + 7) / 8];
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(stockKey, String.valueOf(seatCount).getBytes(StandardCharsets.UTF_8));
+            connection.stringCommands().set(bitmapKey, emptyBitmap, Expiration.from(SeatAvailabilityBitmap.BITMAP_TTL), SetOption.upsert());
+            return null;
+        });
+    }
+
+    private static CopyManager copyManager(Connection connection) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    private record ProvisionedSchedule(Long concertId, Long scheduleId, Long firstSeatId) {
+    }
+
+    // COPY 행 버퍼: 64KB마다 서버로 전송, finish 시 남은 행 전송 + COPY 종료 (finish 전 close = COPY 취소)
+    private static final class CopyStream implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_BYTES + 256);
+
+        private CopyStream(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        CopyStream append(String value) {
+            buffer.append(value);
+            return this;
+        }
+
+        CopyStream append(long value) {
+            buffer.append(value);
+            return this;
+        }
+
+        CopyStream append(char value) {
+            buffer.append(value);
+            return this;
+        }
+
+        void endRow() throws SQLException {
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_BYTES) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        void finish() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+-- 만료 시각이 도래한 예매 claim (1 RTT)
+-- 꺼낸 항목은 처리 중 집합으로 옮기고, ack(ZREM) 전에 처리 기한이 지나면 다음 claim에서 대기열로 되돌림
+-- KEYS[1] = hold:expiry:queue (score = 만료 시각 ms)
+-- KEYS[2] = hold:expiry:processing (score = 처리 기한 ms)
+-- ARGV[1] = 현재 시각 ms, ARGV[2] = 최대 claim 수, ARGV[3] = 처리 기한(visibility timeout) ms
+-- 반환: claim한 reservationId 목록
+
+local now = tonumber(ARGV[1])
+
+-- 워커 장애 등으로 ack되지 않은 항목 재등록 (즉시 재처리 대상)
+local stale = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, ARGV[2])
+for _, id in ipairs(stale) do
+    redis.call('ZREM', KEYS[2], id)
+    redis.call('ZADD', KEYS[1], now, id)
+end
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, ARGV[2])
+local deadline = now + tonumber(ARGV[3])
+for _, id in ipairs(due) do
+    redis.call('ZREM', KEYS[1], id)
+    redis.call('ZADD', KEYS[2], deadline, id)
+end
+return due
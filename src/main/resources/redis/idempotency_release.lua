@@ -0,0 +1,11 @@
+-- 처리 중 마커 해제 (compare-and-delete, 1 RTT)
+-- 마커 TTL이 지나 같은 키의 재시도가 새 마커를 선점한 경우, 늦게 실패한 최초 실행이 그 마커를 지우지 않도록
+-- 본인 마커일 때만 삭제
+-- KEYS[1] = idem:{userId}:{path}:{Idempotency-Key}
+-- ARGV[1] = 본인 처리 중 마커 (IN_FLIGHT:{본문 해시}:{실행 ID})
+-- 반환: 삭제한 key 수 (0 → 이미 다른 실행의 마커/응답이거나 만료)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,15 @@
+-- 좌석 원장 소유권 임대 (획득 또는 갱신, 1 RTT)
+-- KEYS[1] = ledger:owner:schedule:{scheduleId}
+-- ARGV[1] = 노드 ID, ARGV[2] = 임대 시간(ms)
+-- 반환: 1 = 소유, 0 = 다른 노드가 소유 중
+
+local owner = redis.call('GET', KEYS[1])
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+if not owner then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 1
+end
+return 0
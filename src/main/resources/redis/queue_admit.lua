@@ -0,0 +1,35 @@
+-- 대기열 입장 토큰 원자적 발급 (ZRANK → SET EX → ZREM 을 1 RTT로 처리)
+-- KEYS[1] = queue:schedule:{scheduleId}
+-- KEYS[2] = token:queue:{userId}:{scheduleId}
+-- KEYS[3] = active:schedule:{scheduleId}
+-- ARGV[1] = userId, ARGV[2] = 입장 가능 순위(threshold), ARGV[3] = 신규 토큰, ARGV[4] = 토큰 TTL(초)
+-- ARGV[5] = 현재 시각(ms), ARGV[6] = 활성 집합 상한
+-- 반환: {상태, 값} — 값은 토큰 또는 1-based 순번
+
+-- 이미 발급된 토큰이 있으면 그대로 반환 (중복 요청·다중 서버 경합 시 토큰 1개만 유지)
+local issued = redis.call('GET', KEYS[2])
+if issued then
+    return {'ALREADY_ADMITTED', issued}
+end
+
+local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+if not rank then
+    return {'NOT_IN_QUEUE', '0'}
+end
+
+if rank >= tonumber(ARGV[2]) then
+    return {'NOT_READY', tostring(rank + 1)}
+end
+
+-- 만료된 활성 인원 정리 후 상한 확인
+local now = tonumber(ARGV[5])
+redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', now)
+if redis.call('ZCARD', KEYS[3]) >= tonumber(ARGV[6]) then
+    return {'NOT_READY', tostring(rank + 1)}
+end
+
+local ttl = tonumber(ARGV[4])
+redis.call('SET', KEYS[2], ARGV[3], 'EX', ttl)
+redis.call('ZREM', KEYS[1], ARGV[1])
+redis.call('ZADD', KEYS[3], now + ttl * 1000, ARGV[1])
+return {'ADMITTED', ARGV[3]}
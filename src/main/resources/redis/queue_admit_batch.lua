@@ -0,0 +1,36 @@
+-- 스케줄러 배치 입장: 활성 집합 여유만큼 ZPOPMIN → 토큰 발급 → 활성 집합 등록
+-- KEYS[1] = queue:schedule:{scheduleId}
+-- KEYS[2] = active:schedule:{scheduleId}
+-- KEYS[3] = queue:schedules (대기 인원이 있는 스케줄 목록)
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 활성 집합 상한, ARGV[3] = 이번 회차 최대 입장 인원, ARGV[4] = 토큰 TTL(초)
+-- ARGV[5] = 토큰 key prefix("token:queue:"), ARGV[6] = 토큰 key suffix(":{scheduleId}")
+-- ARGV[7] = scheduleId, ARGV[8..] = 미리 생성한 토큰 목록
+-- 토큰 key를 스크립트 내부에서 조립하므로 단일 Redis(비클러스터) 전제
+-- 반환: {입장 인원, 남은 대기 인원}
+
+local now = tonumber(ARGV[1])
+local ttl = tonumber(ARGV[4])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+
+local free = tonumber(ARGV[2]) - redis.call('ZCARD', KEYS[2])
+local n = math.min(free, tonumber(ARGV[3]), #ARGV - 7)
+local admitted = 0
+
+if n > 0 then
+    local popped = redis.call('ZPOPMIN', KEYS[1], n)
+    for i = 1, #popped, 2 do
+        local userId = popped[i]
+        admitted = admitted + 1
+        redis.call('SET', ARGV[5] .. userId .. ARGV[6], ARGV[7 + admitted], 'EX', ttl)
+        redis.call('ZADD', KEYS[2], now + ttl * 1000, userId)
+    end
+end
+
+-- 대기 인원이 없으면 순회 대상에서 제외 (enter 시 ZADD 후 SADD로 재등록)
+local remaining = redis.call('ZCARD', KEYS[1])
+if remaining == 0 then
+    redis.call('SREM', KEYS[3], ARGV[7])
+end
+
+return {admitted, remaining}
@@ -0,0 +1,16 @@
+-- 다좌석 요청 가용성 선검사 (좌석별 GETBIT 를 1 RTT로 처리)
+-- KEYS[1] = seat:bitmap:schedule:{scheduleId}
+-- ARGV[1..n] = 좌석 bit offset (seatId - 스케줄 기준 seatId)
+-- 반환: {-1} (비트맵 없음, 재구성 필요) | {점유(HELD/RESERVED) 좌석 offset...} (정수 배열, 없으면 빈 배열)
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return {-1}
+end
+
+local result = {}
+for i = 1, #ARGV do
+    if redis.call('GETBIT', KEYS[1], ARGV[i]) == 1 then
+        result[#result + 1] = tonumber(ARGV[i])
+    end
+end
+return result
@@ -0,0 +1,12 @@
+-- DB 기준 비트맵 저장 (재구성 시작 전 읽은 변경 카운터가 그대로일 때만)
+-- DB 조회 이후 커밋된 좌석 변경의 SETBIT 는 key 가 없어 무시되므로, 그 사이 변경이 있었으면 저장하지 않고 다음 조회에서 다시 재구성
+-- KEYS[1] = seat:bitmap:schedule:{scheduleId}, KEYS[2] = seat:bitmap:version:{scheduleId}
+-- ARGV[1] = 재구성 시작 시 변경 카운터, ARGV[2] = 비트맵, ARGV[3] = 비트맵 TTL(초)
+-- 반환: 1 = 저장(또는 이미 존재), 0 = 변경 발생으로 저장 생략
+
+local current = redis.call('GET', KEYS[2]) or '0'
+if current ~= ARGV[1] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3], 'NX')
+return 1
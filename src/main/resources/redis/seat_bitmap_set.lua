@@ -0,0 +1,13 @@
+-- 좌석 상태 변경 반영 (비트맵이 있을 때만 SETBIT)
+-- 비트맵이 없는 상태에서 SETBIT 로 key 가 생성되면 나머지 좌석이 모두 '가용'으로 보이므로 생성하지 않음
+-- 비트맵 유무와 관계없이 변경 카운터 증가 → 진행 중인 재구성(seat_bitmap_rebuild.lua)이 이전 DB 스냅샷을 저장하지 않도록
+-- KEYS[1] = seat:bitmap:schedule:{scheduleId}, KEYS[2] = seat:bitmap:version:{scheduleId}
+-- ARGV[1] = bit offset, ARGV[2] = 1(점유) | 0(가용), ARGV[3] = 변경 카운터 TTL(초)
+
+redis.call('INCR', KEYS[2])
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+return redis.call('SETBIT', KEYS[1], ARGV[1], ARGV[2])
@@ -0,0 +1,32 @@
+-- 좌석 선점 (충돌 검사 + 좌석 점유 + 재고 차감을 1 RTT로 처리)
+-- KEYS[1] = stock:schedule:{scheduleId}
+-- KEYS[2..n+1] = hold:seat:{seatId}
+-- ARGV[1] = 선점 토큰, ARGV[2] = 점유 TTL(초), ARGV[3..n+2] = seatId (KEYS 순서와 동일)
+-- 반환: {'CLAIMED'} | {'CONFLICT', 충돌 seatId...} | {'SOLD_OUT', 잔여 재고}
+
+local n = #KEYS - 1
+
+-- 1. 이미 점유된 좌석 수집 (All-or-Nothing)
+local conflicts = {}
+for i = 1, n do
+    if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+        conflicts[#conflicts + 1] = ARGV[i + 2]
+    end
+end
+if #conflicts > 0 then
+    table.insert(conflicts, 1, 'CONFLICT')
+    return conflicts
+end
+
+-- 2. 재고 검사 (재고 key 없음 = 0)
+local stock = tonumber(redis.call('GET', KEYS[1]) or '0')
+if stock < n then
+    return {'SOLD_OUT', tostring(stock)}
+end
+
+-- 3. 좌석 점유 + 재고 차감
+for i = 1, n do
+    redis.call('SET', KEYS[i + 1], ARGV[1], 'EX', ARGV[2])
+end
+redis.call('DECRBY', KEYS[1], n)
+return {'CLAIMED'}
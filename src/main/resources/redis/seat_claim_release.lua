@@ -0,0 +1,18 @@
+-- 좌석 선점 취소 (DB 트랜잭션 실패 시 보상, 1 RTT)
+-- 본인 선점 토큰이 남아 있는 좌석만 해제하고 해제한 수만큼 재고 복원
+-- KEYS[1] = stock:schedule:{scheduleId}
+-- KEYS[2..n+1] = hold:seat:{seatId}
+-- ARGV[1] = 선점 토큰
+-- 반환: 해제한 좌석 수
+
+local released = 0
+for i = 2, #KEYS do
+    if redis.call('GET', KEYS[i]) == ARGV[1] then
+        redis.call('DEL', KEYS[i])
+        released = released + 1
+    end
+end
+if released > 0 then
+    redis.call('INCRBY', KEYS[1], released)
+end
+return released
@@ -66,6 +66,22 @@ CREATE TABLE IF NOT EXISTS payments (
     created_at      TIMESTAMP NOT NULL DEFAULT NOW()
 );
 
+-- 트랜잭셔널 아웃박스 (발행 완료 시 삭제)
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id          BIGSERIAL PRIMARY KEY,
+    topic       VARCHAR(100) NOT NULL,
+    event_key   VARCHAR(100) NOT NULL,
+    event_type  VARCHAR(255) NOT NULL,
+    payload     TEXT NOT NULL,
+    created_at  TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- 시퀀스 증가폭 = 엔티티 @SequenceGenerator allocationSize (Hibernate pooled optimizer, INSERT 배치용)
+ALTER SEQUENCE seats_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reservations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reservation_seats_id_seq INCREMENT BY 50;
+ALTER SEQUENCE outbox_events_id_seq INCREMENT BY 50;
+
 -- 인덱스
 CREATE INDEX IF NOT EXISTS idx_seats_schedule_status ON seats(schedule_id, status);
 CREATE INDEX IF NOT EXISTS idx_reservations_user_id ON reservations(user_id);
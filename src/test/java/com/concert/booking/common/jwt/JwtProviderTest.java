@@ -0,0 +1,43 @@
+package com.concert.booking.common.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtProviderTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm-test";
+
+    private final JwtProvider jwtProvider = new JwtProvider(SECRET, 3_600_000L, 100, Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("발급 토큰: 검증 성공 + 캐시 히트 시 같은 클레임")
+    void issued_token_is_verified() {
+        String token = jwtProvider.createToken(7L, "user@test.com");
+
+        assertThat(jwtProvider.verify(token)).hasValueSatisfying(principal -> {
+            assertThat(principal.userId()).isEqualTo(7L);
+            assertThat(principal.email()).isEqualTo("user@test.com");
+        });
+        assertThat(jwtProvider.verify(token)).map(JwtPrincipal::userId).contains(7L);
+    }
+
+    @Test
+    @DisplayName("exp 없는 토큰: 서명이 유효해도 미인증 처리 (예외 없이 empty)")
+    void token_without_expiration_is_rejected() {
+        String token = Jwts.builder()
+                .subject("7")
+                .claim("email", "user@test.com")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(jwtProvider.verify(token)).isEmpty();
+        assertThat(jwtProvider.validateToken(token)).isFalse();
+    }
+}
@@ -0,0 +1,64 @@
+package com.concert.booking.config;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import java.time.Duration;
+
+// primary + 스트리밍 복제 replica (docker/postgres 스크립트를 docker-compose와 공유)
+// TestContainersConfig 대신 사용 (Redis/Kafka는 TestContainersConfig 컨테이너 재사용)
+@TestConfiguration(proxyBeanMethods = false)
+public class ReplicationTestContainersConfig {
+
+    static final PostgreSQLContainer<?> PRIMARY;
+    static final GenericContainer<?> REPLICA;
+
+    static {
+        // Redis/Kafka 기동 + 시스템 프로퍼티 설정
+        GenericContainer<?> redis = TestContainersConfig.REDIS;
+
+        Network network = Network.newNetwork();
+        PRIMARY = new PostgreSQLContainer<>("postgres:16")
+                .withDatabaseName("concert_booking_test")
+                .withUsername("test")
+                .withPassword("test")
+                .withNetwork(network)
+                .withNetworkAliases("primary")
+                .withCopyFileToContainer(
+                        MountableFile.forHostPath("docker/postgres/init-replication.sh", 0755),
+                        "/docker-entrypoint-initdb.d/init-replication.sh");
+        PRIMARY.start();
+
+        REPLICA = new GenericContainer<>(DockerImageName.parse("postgres:16"))
+                .withNetwork(network)
+                .withEnv("PRIMARY_HOST", "primary")
+                .withEnv("POSTGRES_USER", "test")
+                .withEnv("POSTGRES_PASSWORD", "test")
+                .withCopyFileToContainer(
+                        MountableFile.forHostPath("docker/postgres/replica-entrypoint.sh", 0755),
+                        "/replica-entrypoint.sh")
+                .withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint("/replica-entrypoint.sh"))
+                .withExposedPorts(5432)
+                .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                        .withStartupTimeout(Duration.ofMinutes(2)));
+        REPLICA.start();
+
+        System.setProperty("datasource.replica.url", "jdbc:postgresql://%s:%d/concert_booking_test"
+                .formatted(REPLICA.getHost(), REPLICA.getMappedPort(5432)));
+        System.setProperty("datasource.replica.username", "test");
+        System.setProperty("datasource.replica.password", "test");
+    }
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return PRIMARY;
+    }
+}
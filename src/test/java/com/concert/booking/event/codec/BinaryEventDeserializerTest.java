@@ -0,0 +1,76 @@
+package com.concert.booking.event.codec;
+
+import com.concert.booking.event.ReservationCancelledEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryEventDeserializerTest {
+
+    private static final String TOPIC = "reservation.cancelled";
+
+    private final ReservationCancelledEvent event = new ReservationCancelledEvent(
+            1L, 2L, 3L, List.of(10L, 11L), 50000, "USER_CANCELLED");
+
+    private BinaryEventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        deserializer = new BinaryEventDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.concert.booking.event"), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deserializer.close();
+    }
+
+    @Test
+    @DisplayName("신버전 프로듀서(바이너리) 메시지를 읽는다")
+    void reads_binary() {
+        byte[] binary = EventCodec.encode(event);
+
+        assertThat(deserializer.deserialize(TOPIC, new RecordHeaders(), binary)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("구버전 프로듀서(JSON + 타입 헤더) 메시지를 읽는다")
+    void reads_json() {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] json;
+        try (JsonSerializer<Object> jsonSerializer = new JsonSerializer<>()) {
+            json = jsonSerializer.serialize(TOPIC, headers, event);
+        }
+
+        assertThat(deserializer.deserialize(TOPIC, headers, json)).isEqualTo(event);
+        assertThat(EventCodec.encode(event).length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("null 페이로드(tombstone)는 null")
+    void null_payload() {
+        assertThat(deserializer.deserialize(TOPIC, new RecordHeaders(), null)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘린 바이너리 메시지는 SerializationException")
+    void truncated_binary_fails() {
+        byte[] binary = EventCodec.encode(event);
+        byte[] truncated = Arrays.copyOf(binary, binary.length - 1);
+
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, new RecordHeaders(), truncated))
+                .isInstanceOf(SerializationException.class);
+    }
+}
@@ -1,5 +1,7 @@
 package com.concert.booking.integration;
 
+import com.concert.booking.common.jwt.JwtPrincipal;
+import com.concert.booking.common.jwt.JwtProvider;
 import com.concert.booking.config.TestContainersConfig;
 import com.concert.booking.dto.auth.LoginRequest;
 import com.concert.booking.dto.auth.SignupRequest;
@@ -14,6 +16,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,6 +34,9 @@ class AuthIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtProvider jwtProvider;
+
     @Test
     @DisplayName("회원가입 성공")
     void signup_success() throws Exception {
@@ -93,4 +101,31 @@ class AuthIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    @DisplayName("토큰 1회 검증으로 클레임 추출 + 캐시 히트 시에도 동일 결과")
+    void verify_token_returns_principal() {
+        String token = jwtProvider.createToken(42L, "jwt@test.com");
+
+        Optional<JwtPrincipal> first = jwtProvider.verify(token);
+        Optional<JwtPrincipal> second = jwtProvider.verify(token);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().userId()).isEqualTo(42L);
+        assertThat(first.get().email()).isEqualTo("jwt@test.com");
+        assertThat(second).contains(first.get());
+    }
+
+    @Test
+    @DisplayName("서명 변조 토큰은 검증 캐시와 무관하게 거부")
+    void verify_tampered_token_rejected() {
+        String token = jwtProvider.createToken(43L, "tamper@test.com");
+        assertThat(jwtProvider.verify(token)).isPresent();
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtProvider.verify(tampered)).isEmpty();
+        assertThat(jwtProvider.validateToken("not-a-jwt")).isFalse();
+    }
 }
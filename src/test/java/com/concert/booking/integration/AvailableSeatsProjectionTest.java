@@ -0,0 +1,83 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.domain.Concert;
+import com.concert.booking.domain.ConcertSchedule;
+import com.concert.booking.domain.Seat;
+import com.concert.booking.repository.ConcertRepository;
+import com.concert.booking.repository.ConcertScheduleRepository;
+import com.concert.booking.repository.SeatRepository;
+import com.concert.booking.service.concert.AvailableSeatsProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class AvailableSeatsProjectionTest {
+
+    @Autowired private ConcertRepository concertRepository;
+    @Autowired private ConcertScheduleRepository concertScheduleRepository;
+    @Autowired private SeatRepository seatRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private AvailableSeatsProjection availableSeatsProjection;
+
+    private Long scheduleId;
+    private Long seatId;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = Concert.create("잔여 좌석 테스트 콘서트", "설명", "장소", "아티스트");
+        concertRepository.save(concert);
+
+        ConcertSchedule schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(7), LocalTime.of(19, 0), 2);
+        concertScheduleRepository.save(schedule);
+        scheduleId = schedule.getId();
+
+        Seat seat = Seat.create(schedule, "R", 1, 1, 100000);
+        seatRepository.save(seat);
+        seatRepository.save(Seat.create(schedule, "R", 1, 2, 100000));
+        seatId = seat.getId();
+    }
+
+    @Test
+    @DisplayName("잔여 좌석 수: 좌석 점유 커밋 후 프로젝션 재집계로 반영")
+    void available_seats_projection_recounts() {
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findById(seatId).orElseThrow().hold());
+
+        availableSeatsProjection.refresh();
+
+        assertThat(availableSeats()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잔여 좌석 수: 좌석 반환 커밋 후 재집계로 다시 증가")
+    void available_seats_projection_recounts_after_release() {
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findById(seatId).orElseThrow().hold());
+        availableSeatsProjection.refresh();
+        assertThat(availableSeats()).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findById(seatId).orElseThrow().release());
+        availableSeatsProjection.refresh();
+
+        assertThat(availableSeats()).isEqualTo(2);
+    }
+
+    private int availableSeats() {
+        return concertScheduleRepository.findById(scheduleId).orElseThrow().getAvailableSeats();
+    }
+}
@@ -164,4 +164,38 @@ class BookingFlowIntegrationTest {
         Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
         assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
     }
+
+    @Test
+    @DisplayName("Idempotency-Key 재시도: 같은 키의 두 번째 예매 요청은 저장된 응답을 재전송")
+    void idempotent_retry_replays_first_response() throws Exception {
+        String idempotencyKey = "reserve-" + System.nanoTime();
+        ReservationRequest reservationRequest = new ReservationRequest(scheduleId, List.of(seatId1));
+
+        MvcResult first = mockMvc.perform(post("/api/reservations")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(reservationRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // 재시도: 좌석은 이미 HELD지만 SEAT_NOT_AVAILABLE 대신 최초 응답 그대로
+        MvcResult retry = mockMvc.perform(post("/api/reservations")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(reservationRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+
+        Long reservationId = objectMapper.readTree(first.getResponse().getContentAsString()).get("id").asLong();
+        assertThat(objectMapper.readTree(retry.getResponse().getContentAsString()).get("id").asLong())
+                .isEqualTo(reservationId);
+
+        // 예매는 1건만 생성
+        assertThat(reservationRepository.findAll().stream()
+                .filter(r -> r.getSchedule().getId().equals(scheduleId))
+                .count()).isEqualTo(1);
+    }
 }
@@ -10,6 +10,7 @@ import com.concert.booking.repository.ConcertRepository;
 import com.concert.booking.repository.ConcertScheduleRepository;
 import com.concert.booking.repository.SeatRepository;
 import com.concert.booking.service.reservation.ReservationService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,9 +30,11 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -44,6 +47,7 @@ class ConcurrencyIntegrationTest {
     @Autowired private ConcertScheduleRepository concertScheduleRepository;
     @Autowired private SeatRepository seatRepository;
     @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private MeterRegistry meterRegistry;
 
     private Long scheduleId;
     private Long targetSeatId;
@@ -79,7 +83,65 @@ class ConcurrencyIntegrationTest {
     @Test
     @DisplayName("10명이 동시에 같은 좌석 1개 예매 → 1명만 성공")
     void concurrent_reservation_only_one_succeeds() throws InterruptedException {
-        int threadCount = 10;
+        ReserveCounts counts = reserveConcurrently(10);
+
+        // 정확히 1명만 성공
+        assertThat(counts.success()).isEqualTo(1);
+        assertThat(counts.fail()).isEqualTo(9);
+
+        // 좌석 상태: HELD
+        Seat seat = seatRepository.findById(targetSeatId).orElseThrow();
+        assertThat(seat.getStatus()).isEqualTo(SeatStatus.HELD);
+    }
+
+    @Test
+    @DisplayName("예매 결과/구간 메트릭: 전략·스케줄·결과 태그로 기록")
+    void reservation_records_outcome_and_phase_metrics() throws InterruptedException {
+        ReserveCounts counts = reserveConcurrently(10);
+        assertThat(counts.success()).isEqualTo(1);
+
+        String schedule = String.valueOf(scheduleId);
+        assertThat(meterRegistry.get("reservation.attempt")
+                .tags("strategy", "pessimistic", "scheduleId", schedule, "outcome", "success")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("reservation.attempt")
+                .tags("strategy", "pessimistic", "scheduleId", schedule, "outcome", "seat_conflict")
+                .counter().count()).isEqualTo(9);
+
+        // 행 락 대기는 모든 시도에서, 커밋 구간은 좌석 검증을 통과한 시도에서 측정
+        assertThat(meterRegistry.get("lock.acquire.duration")
+                .tags("strategy", "pessimistic", "lockType", "row")
+                .timer().count()).isGreaterThanOrEqualTo(10);
+        assertThat(meterRegistry.get("reservation.phase.duration")
+                .tags("strategy", "pessimistic", "phase", "commit")
+                .timer().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 스케줄 ID 요청은 scheduleId 태그를 만들지 않고 unknown으로 집계")
+    void unknown_schedule_is_not_tagged() {
+        long unknownScheduleId = Long.MAX_VALUE - System.nanoTime() % 1000;
+        double before = unknownAttempts();
+
+        assertThatThrownBy(() -> reservationService.reserve(userIds.get(0),
+                new ReservationRequest(unknownScheduleId, List.of(targetSeatId))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(unknownAttempts()).isEqualTo(before + 1);
+        assertThat(meterRegistry.find("reservation.attempt")
+                .tag("scheduleId", String.valueOf(unknownScheduleId))
+                .counter()).isNull();
+    }
+
+    private double unknownAttempts() {
+        var counter = meterRegistry.find("reservation.attempt")
+                .tags("strategy", "pessimistic", "scheduleId", "unknown", "outcome", "error")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    // 사용자 threadCount명이 같은 좌석을 동시에 예매
+    private ReserveCounts reserveConcurrently(int threadCount) throws InterruptedException {
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         CountDownLatch latch = new CountDownLatch(threadCount);
         AtomicInteger successCount = new AtomicInteger(0);
@@ -100,15 +162,11 @@ class ConcurrencyIntegrationTest {
             });
         }
 
-        latch.await();
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
         executor.shutdown();
+        return new ReserveCounts(successCount.get(), failCount.get());
+    }
 
-        // 정확히 1명만 성공
-        assertThat(successCount.get()).isEqualTo(1);
-        assertThat(failCount.get()).isEqualTo(9);
-
-        // 좌석 상태: HELD
-        Seat seat = seatRepository.findById(targetSeatId).orElseThrow();
-        assertThat(seat.getStatus()).isEqualTo(SeatStatus.HELD);
+    private record ReserveCounts(int success, int fail) {
     }
 }
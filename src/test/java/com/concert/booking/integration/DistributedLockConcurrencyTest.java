@@ -1,5 +1,6 @@
 package com.concert.booking.integration;
 
+import com.concert.booking.common.exception.SeatNotAvailableException;
 import com.concert.booking.common.util.RedisKeyUtil;
 import com.concert.booking.config.TestContainersConfig;
 import com.concert.booking.domain.Concert;
@@ -24,6 +25,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -35,6 +37,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -52,6 +55,7 @@ class DistributedLockConcurrencyTest {
     @Autowired private SeatRepository seatRepository;
     @Autowired private PasswordEncoder passwordEncoder;
     @Autowired private RedisTemplate<String, String> redisTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
 
     private Long scheduleId;
     private Long targetSeatId;
@@ -127,4 +131,21 @@ class DistributedLockConcurrencyTest {
         Seat seat = seatRepository.findById(targetSeatId).orElseThrow();
         assertThat(seat.getStatus()).isEqualTo(SeatStatus.HELD);
     }
+
+    @Test
+    @DisplayName("분산 락: 중복 좌석 ID 요청이 DB 단계에서 실패해도 보상 후 재고 누수 없음")
+    void duplicate_seat_ids_do_not_leak_stock() {
+        // Redis hold key 없이 DB에서만 점유된 좌석 → 선점 성공 후 DB 검증 실패 → 보상 해제
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findById(targetSeatId).orElseThrow().hold());
+        String stockKey = RedisKeyUtil.stockKey(scheduleId);
+        redisTemplate.opsForValue().set(stockKey, "2");
+
+        ReservationRequest request = new ReservationRequest(scheduleId, List.of(targetSeatId, targetSeatId));
+        assertThatThrownBy(() -> reservationService.reserve(userIds.get(0), request))
+                .isInstanceOf(SeatNotAvailableException.class);
+
+        assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("2");
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.seatHoldKey(targetSeatId))).isFalse();
+    }
 }
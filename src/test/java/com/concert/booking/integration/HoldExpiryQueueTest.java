@@ -0,0 +1,76 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.domain.*;
+import com.concert.booking.repository.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class HoldExpiryQueueTest {
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private ConcertRepository concertRepository;
+    @Autowired private ConcertScheduleRepository concertScheduleRepository;
+    @Autowired private SeatRepository seatRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private ReservationSeatRepository reservationSeatRepository;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+    @Autowired private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("만료 지연 큐: 만료 시각 도래 후 스케줄러 sweep 없이 수 초 내 EXPIRED + 좌석 반환")
+    void hold_expires_via_delay_queue() throws InterruptedException {
+        User user = User.create("hold-expiry-" + System.nanoTime() + "@test.com",
+                passwordEncoder.encode("password123"), "만료테스터");
+        userRepository.save(user);
+
+        Concert concert = Concert.create("만료 지연 큐 테스트 콘서트", "설명", "장소", "아티스트");
+        concertRepository.save(concert);
+        ConcertSchedule schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(30), LocalTime.of(20, 0), 10);
+        concertScheduleRepository.save(schedule);
+
+        Seat seat = Seat.create(schedule, "A", 1, 1, 100000);
+        seat.hold();
+        seatRepository.save(seat);
+
+        // 1초 후 만료되는 예매 → 저장 시 지연 큐 등록
+        Reservation reservation = Reservation.create(user, schedule, 100000, LocalDateTime.now().plusSeconds(1));
+        reservationRepository.save(reservation);
+        reservationSeatRepository.save(ReservationSeat.create(reservation, seat));
+
+        Double score = redisTemplate.opsForZSet().score(RedisKeyUtil.holdExpiryQueueKey(),
+                String.valueOf(reservation.getId()));
+        assertThat(score).isNotNull();
+
+        // 30초 sweep을 기다리지 않고 만료 + Kafka Consumer 좌석 반환 (최대 10초 대기)
+        long deadline = System.currentTimeMillis() + 10000;
+        SeatStatus seatStatus = SeatStatus.HELD;
+        while (seatStatus != SeatStatus.AVAILABLE && System.currentTimeMillis() < deadline) {
+            Thread.sleep(200);
+            seatStatus = seatRepository.findById(seat.getId()).orElseThrow().getStatus();
+        }
+
+        assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(seatStatus).isEqualTo(SeatStatus.AVAILABLE);
+        // ack 완료 → 처리 중 집합에서도 제거
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.holdExpiryProcessingKey(),
+                String.valueOf(reservation.getId()))).isNull();
+    }
+}
@@ -0,0 +1,190 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.idempotency.IdempotencyStore;
+import com.concert.booking.common.jwt.JwtProvider;
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.domain.*;
+import com.concert.booking.dto.reservation.ReservationRequest;
+import com.concert.booking.repository.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Idempotency-Key 동시 중복 합류 / 처리 중 대기 타임아웃 / 다른 본문 재사용
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class IdempotencyIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private IdempotencyStore idempotencyStore;
+    @Autowired private JwtProvider jwtProvider;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ConcertRepository concertRepository;
+    @Autowired private ConcertScheduleRepository concertScheduleRepository;
+    @Autowired private SeatRepository seatRepository;
+    @Autowired private ReservationRepository reservationRepository;
+
+    private Long scheduleId;
+    private Long seatId1;
+    private Long seatId2;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = Concert.create("멱등 테스트 콘서트", "설명", "장소", "아티스트");
+        concertRepository.save(concert);
+        ConcertSchedule schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(7), LocalTime.of(19, 0), 2);
+        concertScheduleRepository.save(schedule);
+        scheduleId = schedule.getId();
+
+        Seat seat1 = Seat.create(schedule, "R", 1, 1, 100000);
+        Seat seat2 = Seat.create(schedule, "R", 1, 2, 100000);
+        seatRepository.save(seat1);
+        seatRepository.save(seat2);
+        seatId1 = seat1.getId();
+        seatId2 = seat2.getId();
+
+        user = userRepository.save(User.create("idem-" + System.nanoTime() + "@test.com", "password", "멱등테스터"));
+    }
+
+    @Test
+    @DisplayName("동시 중복 요청: 같은 키 요청들은 최초 실행 1건의 응답을 함께 받는다")
+    void concurrent_duplicates_coalesce() throws Exception {
+        String idempotencyKey = "concurrent-" + System.nanoTime();
+        String body = body(seatId1);
+        int requests = 5;
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return reserve(idempotencyKey, body).andReturn().getResponse();
+                }));
+            }
+            start.countDown();
+
+            List<Long> reservationIds = new ArrayList<>();
+            int replayed = 0;
+            for (Future<MockHttpServletResponse> future : futures) {
+                MockHttpServletResponse response = future.get();
+                assertThat(response.getStatus()).isEqualTo(201);
+                reservationIds.add(objectMapper.readTree(response.getContentAsString()).get("id").asLong());
+                if ("true".equals(response.getHeader("Idempotent-Replayed"))) {
+                    replayed++;
+                }
+            }
+
+            // 1건만 실행, 나머지는 같은 응답 재전송
+            assertThat(reservationIds).containsOnly(reservationIds.get(0));
+            assertThat(replayed).isEqualTo(requests - 1);
+            assertThat(reservationRepository.findAll().stream()
+                    .filter(r -> r.getSchedule().getId().equals(scheduleId))
+                    .count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("처리 중 대기 타임아웃: 최초 실행이 끝나지 않으면 409 IDEMPOTENCY_IN_PROGRESS")
+    void in_progress_times_out_with_conflict() throws Exception {
+        String idempotencyKey = "in-flight-" + System.nanoTime();
+        String body = body(seatId1);
+
+        // 다른 서버가 같은 요청을 처리 중인 상태 (마커만 존재)
+        String key = RedisKeyUtil.idempotencyKey(user.getId(), "/api/reservations", idempotencyKey);
+        assertThat(idempotencyStore.tryStart(key, IdempotencyStore.inFlightMarker(
+                IdempotencyStore.requestHash(body.getBytes(StandardCharsets.UTF_8))))).isTrue();
+
+        reserve(idempotencyKey, body)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_IN_PROGRESS"));
+
+        // 예매는 실행되지 않음
+        assertThat(reservationRepository.findAll().stream()
+                .filter(r -> r.getSchedule().getId().equals(scheduleId))
+                .count()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 본문으로 재사용하면 422 (최초 응답 재전송 안 함)")
+    void reused_key_with_different_body_is_rejected() throws Exception {
+        String idempotencyKey = "reused-" + System.nanoTime();
+
+        reserve(idempotencyKey, body(seatId1)).andExpect(status().isCreated());
+
+        reserve(idempotencyKey, body(seatId2))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+
+        // 처리 중 마커와 다른 본문도 대기 없이 거절
+        String inFlightKey = "reused-in-flight-" + System.nanoTime();
+        idempotencyStore.tryStart(RedisKeyUtil.idempotencyKey(user.getId(), "/api/reservations", inFlightKey),
+                IdempotencyStore.inFlightMarker(IdempotencyStore.requestHash(body(seatId1).getBytes(StandardCharsets.UTF_8))));
+        reserve(inFlightKey, body(seatId2))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    @DisplayName("마커 해제는 본인 마커만: TTL 초과 후 재시도가 선점한 마커는 늦게 실패한 최초 실행이 지우지 못함")
+    void release_only_deletes_own_marker() throws Exception {
+        String key = RedisKeyUtil.idempotencyKey(user.getId(), "/api/reservations", "release-" + System.nanoTime());
+        String requestHash = IdempotencyStore.requestHash(body(seatId1).getBytes(StandardCharsets.UTF_8));
+        String firstMarker = IdempotencyStore.inFlightMarker(requestHash);
+        String retryMarker = IdempotencyStore.inFlightMarker(requestHash);
+
+        // 최초 실행 마커가 만료된 뒤 같은 본문의 재시도가 새 마커 선점
+        assertThat(idempotencyStore.tryStart(key, retryMarker)).isTrue();
+
+        assertThat(idempotencyStore.release(key, firstMarker)).isFalse();
+        assertThat(idempotencyStore.get(key)).contains(retryMarker);
+
+        assertThat(idempotencyStore.release(key, retryMarker)).isTrue();
+        assertThat(idempotencyStore.get(key)).isEmpty();
+    }
+
+    private String body(Long seatId) throws Exception {
+        return objectMapper.writeValueAsString(new ReservationRequest(scheduleId, List.of(seatId)));
+    }
+
+    private ResultActions reserve(String idempotencyKey, String body) throws Exception {
+        return mockMvc.perform(post("/api/reservations")
+                .header("Authorization", "Bearer " + jwtProvider.createToken(user.getId(), user.getEmail()))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -4,8 +4,12 @@ import com.concert.booking.config.TestContainersConfig;
 import com.concert.booking.domain.*;
 import com.concert.booking.dto.payment.PaymentRequest;
 import com.concert.booking.dto.reservation.ReservationRequest;
+import com.concert.booking.event.ReservationCancelledEvent;
+import com.concert.booking.event.ReservationCompletedEvent;
+import com.concert.booking.event.codec.BinaryEventDeserializer;
 import com.concert.booking.repository.*;
 import com.concert.booking.service.payment.PaymentService;
+import com.concert.booking.service.reservation.ReservationExpirationScheduler;
 import com.concert.booking.service.reservation.ReservationService;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -18,11 +22,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Properties;
@@ -41,6 +47,8 @@ class KafkaEventTest {
     @Autowired private ConcertScheduleRepository concertScheduleRepository;
     @Autowired private SeatRepository seatRepository;
     @Autowired private ReservationRepository reservationRepository;
+    @Autowired private ReservationSeatRepository reservationSeatRepository;
+    @Autowired private ReservationExpirationScheduler reservationExpirationScheduler;
     @Autowired private PasswordEncoder passwordEncoder;
 
     @Value("${spring.kafka.bootstrap-servers}")
@@ -85,9 +93,11 @@ class KafkaEventTest {
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "test-completed-" + System.nanoTime());
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        // 운영 Consumer와 같은 역직렬화기 (프로듀서 코덱과 무관하게 읽음)
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, BinaryEventDeserializer.class.getName());
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.concert.booking.event");
 
-        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props)) {
+        try (KafkaConsumer<String, Object> consumer = new KafkaConsumer<>(props)) {
             consumer.subscribe(List.of("reservation.completed"));
 
             // 파티션 할당 대기 (첫 poll로 rebalance 트리거)
@@ -98,7 +108,7 @@ class KafkaEventTest {
             paymentService.pay(userId, paymentRequest);
 
             // 이벤트 수신 확인 (최대 15초 대기)
-            ConsumerRecords<String, String> records = ConsumerRecords.empty();
+            ConsumerRecords<String, Object> records = ConsumerRecords.empty();
             long deadline = System.currentTimeMillis() + 15000;
 
             while (records.isEmpty() && System.currentTimeMillis() < deadline) {
@@ -110,11 +120,63 @@ class KafkaEventTest {
             var record = records.iterator().next();
             assertThat(record.topic()).isEqualTo("reservation.completed");
             assertThat(record.key()).isEqualTo(String.valueOf(reservationResponse.id()));
-            assertThat(record.value()).contains("reservationId");
+            ReservationCompletedEvent event = (ReservationCompletedEvent) record.value();
+            assertThat(event.reservationId()).isEqualTo(reservationResponse.id());
+            assertThat(event.userId()).isEqualTo(userId);
         }
 
         // 예매 상태 확인: CONFIRMED
         Reservation reservation = reservationRepository.findById(reservationResponse.id()).orElseThrow();
         assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
     }
+
+    @Test
+    @DisplayName("만료 스케줄러: 만료된 PENDING 예매를 청크 UPDATE로 EXPIRED 전환 + reservation.cancelled 발행")
+    void expiration_publishes_cancelled_event() {
+        // 만료 시각이 지난 PENDING 예매 생성
+        User user = userRepository.findById(userId).orElseThrow();
+        ConcertSchedule schedule = concertScheduleRepository.findById(scheduleId).orElseThrow();
+        Seat seat = seatRepository.findById(seatId).orElseThrow();
+        seat.hold();
+        seatRepository.save(seat);
+
+        Reservation reservation = Reservation.create(user, schedule, 100000, LocalDateTime.now().minusMinutes(1));
+        reservationRepository.save(reservation);
+        reservationSeatRepository.save(ReservationSeat.create(reservation, seat));
+
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "test-expired-" + System.nanoTime());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        // 운영 Consumer와 같은 역직렬화기 (프로듀서 코덱과 무관하게 읽음)
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, BinaryEventDeserializer.class.getName());
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.concert.booking.event");
+
+        try (KafkaConsumer<String, Object> consumer = new KafkaConsumer<>(props)) {
+            consumer.subscribe(List.of("reservation.cancelled"));
+            consumer.poll(Duration.ofMillis(2000));
+
+            reservationExpirationScheduler.expireReservations();
+
+            // 해당 예매의 이벤트 수신 확인 (최대 15초 대기)
+            String expectedKey = String.valueOf(reservation.getId());
+            boolean received = false;
+            long deadline = System.currentTimeMillis() + 15000;
+            while (!received && System.currentTimeMillis() < deadline) {
+                for (var record : consumer.poll(Duration.ofMillis(500))) {
+                    if (expectedKey.equals(record.key())) {
+                        ReservationCancelledEvent event = (ReservationCancelledEvent) record.value();
+                        assertThat(event.reason()).isEqualTo("EXPIRED");
+                        assertThat(event.seatIds()).containsExactly(seatId);
+                        received = true;
+                    }
+                }
+            }
+            assertThat(received).isTrue();
+        }
+
+        Reservation expired = reservationRepository.findById(reservation.getId()).orElseThrow();
+        assertThat(expired.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+    }
 }
@@ -0,0 +1,130 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.domain.Concert;
+import com.concert.booking.domain.ConcertSchedule;
+import com.concert.booking.domain.Seat;
+import com.concert.booking.domain.SeatStatus;
+import com.concert.booking.domain.User;
+import com.concert.booking.dto.reservation.ReservationRequest;
+import com.concert.booking.repository.ConcertRepository;
+import com.concert.booking.repository.ConcertScheduleRepository;
+import com.concert.booking.repository.SeatRepository;
+import com.concert.booking.repository.UserRepository;
+import com.concert.booking.service.reservation.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class LedgerConcurrencyTest {
+
+    private static final int USER_COUNT = 10;
+
+    @Autowired
+    @Qualifier("ledgerReservationService")
+    private ReservationService reservationService;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private ConcertRepository concertRepository;
+    @Autowired private ConcertScheduleRepository concertScheduleRepository;
+    @Autowired private SeatRepository seatRepository;
+    @Autowired private PasswordEncoder passwordEncoder;
+
+    private Long scheduleId;
+    private List<Long> seatIds;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = Concert.create("원장 테스트 콘서트", "설명", "장소", "아티스트");
+        concertRepository.save(concert);
+
+        ConcertSchedule schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(30), LocalTime.of(20, 0), USER_COUNT);
+        concertScheduleRepository.save(schedule);
+        scheduleId = schedule.getId();
+
+        seatIds = new ArrayList<>();
+        for (int i = 1; i <= USER_COUNT; i++) {
+            Seat seat = Seat.create(schedule, "R", 1, i, 100000);
+            seatRepository.save(seat);
+            seatIds.add(seat.getId());
+        }
+
+        userIds = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = User.create(
+                    "ledger-" + System.nanoTime() + "-" + i + "@test.com",
+                    passwordEncoder.encode("password123"),
+                    "원장테스터" + i
+            );
+            userRepository.save(user);
+            userIds.add(user.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("좌석 원장: 10명이 동시에 같은 좌석 1개 예매 → 1명만 성공")
+    void ledger_same_seat_only_one_succeeds() throws InterruptedException {
+        Long targetSeatId = seatIds.get(0);
+        AtomicInteger successCount = runConcurrently(i -> List.of(targetSeatId));
+
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(seatRepository.findById(targetSeatId).orElseThrow().getStatus()).isEqualTo(SeatStatus.HELD);
+    }
+
+    @Test
+    @DisplayName("좌석 원장: 10명이 동시에 서로 다른 좌석 예매 → 전원 성공 (일괄 반영)")
+    void ledger_disjoint_seats_all_succeed() throws InterruptedException {
+        AtomicInteger successCount = runConcurrently(i -> List.of(seatIds.get(i)));
+
+        assertThat(successCount.get()).isEqualTo(USER_COUNT);
+        assertThat(seatRepository.findByScheduleIdAndStatus(scheduleId, SeatStatus.HELD)).hasSize(USER_COUNT);
+    }
+
+    private AtomicInteger runConcurrently(IntFunction<List<Long>> seatsForUser)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(USER_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            final int index = i;
+            executor.submit(() -> {
+                try {
+                    reservationService.reserve(userIds.get(index),
+                            new ReservationRequest(scheduleId, seatsForUser.apply(index)));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 좌석 충돌 → 실패
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+        return successCount;
+    }
+}
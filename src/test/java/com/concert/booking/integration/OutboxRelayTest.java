@@ -0,0 +1,121 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.domain.OutboxEvent;
+import com.concert.booking.event.ReservationCompletedEvent;
+import com.concert.booking.event.codec.BinaryEventDeserializer;
+import com.concert.booking.repository.OutboxEventRepository;
+import com.concert.booking.service.outbox.OutboxRelay;
+import com.concert.booking.service.outbox.OutboxWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 브로커 전송 실패 → 행 유지 → 다음 relay에서 재발행 (스케줄 relay는 멈춰 두고 직접 호출)
+@SpringBootTest(properties = "outbox.relay.poll-interval-ms=3600000")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class OutboxRelayTest {
+
+    private static final String TOPIC = "reservation.completed";
+
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private OutboxWriter outboxWriter;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Test
+    @DisplayName("전송 실패 시 아웃박스 행은 남고, 브로커 복구 후 relay가 재발행한다")
+    void failed_send_keeps_row_and_republishes() {
+        String eventKey = "outbox-" + System.nanoTime();
+        ReservationCompletedEvent event = new ReservationCompletedEvent(
+                System.nanoTime(), 1L, 1L, 100000, LocalDateTime.now().withNano(0));
+        transactionTemplate.executeWithoutResult(status -> outboxWriter.append(TOPIC, eventKey, event));
+
+        // 접속 불가 브로커: 메타데이터 대기(max.block.ms) 초과로 send 실패
+        DefaultKafkaProducerFactory<String, Object> unreachable = new DefaultKafkaProducerFactory<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:1",
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class,
+                ProducerConfig.MAX_BLOCK_MS_CONFIG, 500));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboxRelay failingRelay = new OutboxRelay(outboxEventRepository, new KafkaTemplate<>(unreachable),
+                transactionTemplate, objectMapper, meterRegistry, 500, Duration.ofSeconds(2));
+        try {
+            long start = System.nanoTime();
+            failingRelay.relay();
+
+            // 남은 send를 건마다 기다리지 않고 send-timeout 안에 포기
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+            assertThat(meterRegistry.counter("outbox.relay.failed").count()).isEqualTo(1);
+            assertThat(pendingRows(eventKey)).hasSize(1);
+        } finally {
+            unreachable.destroy();
+        }
+
+        try (KafkaConsumer<String, Object> consumer = new KafkaConsumer<>(consumerProps())) {
+            consumer.subscribe(List.of(TOPIC));
+            consumer.poll(Duration.ofMillis(2000));
+
+            outboxRelay.relay();
+            assertThat(pendingRows(eventKey)).isEmpty();
+
+            boolean received = false;
+            long deadline = System.currentTimeMillis() + 15000;
+            while (!received && System.currentTimeMillis() < deadline) {
+                for (var record : consumer.poll(Duration.ofMillis(500))) {
+                    if (eventKey.equals(record.key())) {
+                        assertThat(record.value()).isEqualTo(event);
+                        received = true;
+                    }
+                }
+            }
+            assertThat(received).isTrue();
+        }
+    }
+
+    private List<OutboxEvent> pendingRows(String eventKey) {
+        return outboxEventRepository.findAll().stream()
+                .filter(row -> eventKey.equals(row.getEventKey()))
+                .toList();
+    }
+
+    private Properties consumerProps() {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "test-outbox-" + System.nanoTime());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, BinaryEventDeserializer.class.getName());
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.concert.booking.event");
+        return props;
+    }
+}
@@ -0,0 +1,179 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.service.queue.QueueAdmissionResult;
+import com.concert.booking.service.queue.QueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 처리량 측정 시 활성 집합 상한이 병목이 되지 않도록 상향
+@SpringBootTest(properties = "queue.admission.max-active=100000")
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class QueueAdmissionThroughputTest {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueAdmissionThroughputTest.class);
+
+    @Autowired private QueueService queueService;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    private static final Long SCHEDULE_ID = 998L;
+    private static final int USER_COUNT = 2000;
+    private static final int THREAD_COUNT = 16;
+
+    @BeforeEach
+    void setUp() {
+        resetQueue();
+    }
+
+    private void resetQueue() {
+        redisTemplate.delete(RedisKeyUtil.queueKey(SCHEDULE_ID));
+        redisTemplate.delete(RedisKeyUtil.activeKey(SCHEDULE_ID));
+        Set<String> tokenKeys = redisTemplate.keys("token:queue:*:" + SCHEDULE_ID);
+        if (tokenKeys != null && !tokenKeys.isEmpty()) {
+            redisTemplate.delete(tokenKeys);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 유저의 동시 입장 요청 → 토큰은 1개만 발급")
+    void concurrent_admission_issues_single_token() throws InterruptedException {
+        int users = 200;
+        for (long userId = 1; userId <= users; userId++) {
+            queueService.enter(userId, SCHEDULE_ID);
+        }
+
+        // 유저마다 2개 스레드가 동시에 입장 요청 (다중 서버 경합 재현)
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(users * 2);
+        ConcurrentHashMap<Long, Set<String>> tokensByUser = new ConcurrentHashMap<>();
+
+        for (long userId = 1; userId <= users; userId++) {
+            final long id = userId;
+            for (int i = 0; i < 2; i++) {
+                executor.submit(() -> {
+                    try {
+                        QueueAdmissionResult result = queueService.admit(id, SCHEDULE_ID);
+                        if (result.admitted()) {
+                            tokensByUser.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(result.token());
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // threshold(100) 이내 유저만 입장, 유저당 토큰 1개
+        assertThat(tokensByUser).isNotEmpty();
+        assertThat(tokensByUser.values()).allSatisfy(tokens -> assertThat(tokens).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("입장 경로 비교: 기존 3 RTT 경로와 Lua 스크립트 1 RTT 경로 모두 전원 입장 + 유저당 토큰 1개")
+    void admission_legacy_vs_script() throws InterruptedException {
+        AdmissionRun legacy = runAdmissions(this::legacyAdmit);
+        AdmissionRun script = runAdmissions(userId -> queueService.admit(userId, SCHEDULE_ID).admitted());
+
+        // 두 경로 모두 전원 입장 + 대기열 소진 + 유저당 토큰 1개
+        for (AdmissionRun run : List.of(legacy, script)) {
+            assertThat(run.admitted()).isEqualTo(USER_COUNT);
+            assertThat(run.remainingInQueue()).isZero();
+            assertThat(run.tokens()).isEqualTo(USER_COUNT);
+        }
+
+        // 처리량은 공유 컨테이너 부하에 따라 흔들리므로 단언하지 않고 로그로만 기록
+        log.info("입장 처리량: legacy={} ops/s, script={} ops/s",
+                Math.round(legacy.opsPerSecond()), Math.round(script.opsPerSecond()));
+    }
+
+    // 매 라운드: USER_COUNT명 진입 → 전원 동시 입장 요청 (threshold 밖이면 선두가 빠질 때까지 재시도)
+    private AdmissionRun runAdmissions(AdmissionCall call) throws InterruptedException {
+        resetQueue();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            queueService.enter(userId, SCHEDULE_ID);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+        AtomicInteger admitted = new AtomicInteger();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+
+        long start = System.nanoTime();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            final long id = userId;
+            executor.submit(() -> {
+                try {
+                    // 입장 순서가 될 때까지 짧게 쉬며 재시도 (마감 시각까지)
+                    while (System.nanoTime() < deadline) {
+                        if (call.admit(id)) {
+                            admitted.incrementAndGet();
+                            return;
+                        }
+                        Thread.sleep(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertThat(latch.await(90, TimeUnit.SECONDS)).isTrue();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        Long remaining = redisTemplate.opsForZSet().size(RedisKeyUtil.queueKey(SCHEDULE_ID));
+        Set<String> tokenKeys = redisTemplate.keys("token:queue:*:" + SCHEDULE_ID);
+        return new AdmissionRun(admitted.get(), elapsed,
+                remaining != null ? remaining : 0, tokenKeys != null ? tokenKeys.size() : 0);
+    }
+
+    private record AdmissionRun(int admitted, long elapsedNanos, long remainingInQueue, int tokens) {
+        double opsPerSecond() {
+            return admitted / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+
+    // 변경 전 경로: ZRANK → SET EX → ZREM (3 RTT)
+    private boolean legacyAdmit(long userId) {
+        String queueKey = RedisKeyUtil.queueKey(SCHEDULE_ID);
+        Long rank = redisTemplate.opsForZSet().rank(queueKey, String.valueOf(userId));
+        if (rank == null || rank + 1 > 100) {
+            return false;
+        }
+        redisTemplate.opsForValue().set(RedisKeyUtil.tokenKey(userId, SCHEDULE_ID),
+                UUID.randomUUID().toString(), 300, TimeUnit.SECONDS);
+        redisTemplate.opsForZSet().remove(queueKey, String.valueOf(userId));
+        return true;
+    }
+
+    @FunctionalInterface
+    private interface AdmissionCall {
+        boolean admit(long userId);
+    }
+}
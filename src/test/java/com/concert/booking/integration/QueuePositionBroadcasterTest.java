@@ -0,0 +1,128 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.jwt.JwtProvider;
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.service.queue.QueuePositionBroadcaster;
+import com.concert.booking.service.queue.QueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// SSE 순번 스트림: 구독 즉시 현재 순번 전송 / 빈 맵 정리와 동시 구독이 겹쳐도 등록 유지
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class QueuePositionBroadcasterTest {
+
+    private static final int AHEAD = 150; // 입장 기준(100등)보다 뒤 → 구독 유지
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private QueuePositionBroadcaster broadcaster;
+    @Autowired private QueueService queueService;
+    @Autowired private JwtProvider jwtProvider;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    private Long scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        // Redis 대기열만 사용 (DB 스케줄 불필요)
+        scheduleId = System.nanoTime();
+        for (long userId = 1; userId <= AHEAD; userId++) {
+            redisTemplate.opsForZSet().add(RedisKeyUtil.queueKey(scheduleId), String.valueOf(userId), userId);
+        }
+    }
+
+    @Test
+    @DisplayName("구독 직후 첫 tick을 기다리지 않고 현재 순번 이벤트를 받는다")
+    void subscribe_sends_initial_position() throws Exception {
+        long userId = 1_000_000L;
+        queueService.enter(userId, scheduleId);
+
+        MvcResult result = mockMvc.perform(get("/api/queue/events")
+                        .param("scheduleId", String.valueOf(scheduleId))
+                        .header("Authorization", "Bearer " + jwtProvider.createToken(userId, "sse@test.com")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:POSITION");
+        assertThat(body).contains("\"position\":" + (AHEAD + 1));
+    }
+
+    @Test
+    @DisplayName("broadcast의 빈 맵 정리와 동시에 구독해도 모든 구독이 남는다")
+    void concurrent_subscribe_and_broadcast_keeps_subscribers() throws Exception {
+        int subscriberCount = 50;
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < subscriberCount; i++) {
+            long userId = 2_000_000L + i;
+            queueService.enter(userId, scheduleId);
+            userIds.add(userId);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(subscriberCount + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean subscribing = new AtomicBoolean(true);
+        try {
+            Future<?> broadcasting = executor.submit(() -> {
+                start.await();
+                while (subscribing.get()) {
+                    broadcaster.broadcast();
+                }
+                return null;
+            });
+            List<Future<?>> subscriptions = new ArrayList<>();
+            for (Long userId : userIds) {
+                subscriptions.add(executor.submit(() -> {
+                    start.await();
+                    // 대기열에 없는 유저의 짧은 구독 반복 → broadcast가 해제하면서 맵이 비었다 채워지기를 반복
+                    for (int i = 0; i < 20; i++) {
+                        broadcaster.subscribe(-userId, scheduleId).complete();
+                    }
+                    return broadcaster.subscribe(userId, scheduleId);
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> subscription : subscriptions) {
+                subscription.get();
+            }
+            subscribing.set(false);
+            broadcasting.get();
+            // 완료된 짧은 구독 정리 (전송은 가상 스레드에서 비동기 → 최대 5초 polling)
+            long deadline = System.currentTimeMillis() + 5000;
+            while (broadcaster.getSubscriberCount(scheduleId) != subscriberCount
+                    && System.currentTimeMillis() < deadline) {
+                broadcaster.broadcast();
+                Thread.sleep(50);
+            }
+
+            assertThat(broadcaster.getSubscriberCount(scheduleId)).isEqualTo(subscriberCount);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
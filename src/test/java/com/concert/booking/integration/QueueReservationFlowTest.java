@@ -0,0 +1,137 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.jwt.JwtProvider;
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.domain.*;
+import com.concert.booking.dto.reservation.ReservationRequest;
+import com.concert.booking.repository.*;
+import com.concert.booking.service.queue.QueueService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 기본 전략(비관적 락)에서 대기열 입장 → 예매 → 다음 입장 흐름 (활성 집합 상한 1명)
+@SpringBootTest(properties = "queue.admission.max-active=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class QueueReservationFlowTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private QueueService queueService;
+    @Autowired private JwtProvider jwtProvider;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ConcertRepository concertRepository;
+    @Autowired private ConcertScheduleRepository concertScheduleRepository;
+    @Autowired private SeatRepository seatRepository;
+
+    private Long scheduleId;
+    private Long seatId1;
+    private User user1;
+    private User user2;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = Concert.create("대기열 테스트 콘서트", "설명", "장소", "아티스트");
+        concertRepository.save(concert);
+        ConcertSchedule schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(7), LocalTime.of(19, 0), 2);
+        concertScheduleRepository.save(schedule);
+        scheduleId = schedule.getId();
+
+        Seat seat1 = Seat.create(schedule, "R", 1, 1, 100000);
+        seatRepository.save(seat1);
+        seatRepository.save(Seat.create(schedule, "R", 1, 2, 100000));
+        seatId1 = seat1.getId();
+
+        user1 = userRepository.save(User.create("queue1-" + System.nanoTime() + "@test.com", "password", "대기자1"));
+        user2 = userRepository.save(User.create("queue2-" + System.nanoTime() + "@test.com", "password", "대기자2"));
+    }
+
+    @Test
+    @DisplayName("입장 → 예매 성공 → 활성 슬롯 반환 → 다음 대기자 입장 (토큰 TTL 대기 없음)")
+    void reservation_frees_active_slot_for_next_user() throws Exception {
+        queueService.enter(user1.getId(), scheduleId);
+        queueService.enter(user2.getId(), scheduleId);
+
+        // 상한 1명 → 선두 1명만 입장
+        assertThat(queueService.admitBatch(scheduleId, 50).admitted()).isEqualTo(1);
+        assertThat(queueService.admitBatch(scheduleId, 50).admitted()).isZero();
+
+        reserve(user1, seatId1, queueToken(user1)).andExpect(status().isCreated());
+
+        // 토큰 1회 사용 + 슬롯 반환 → 다음 회차에 2번째 대기자 입장
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.tokenKey(user1.getId(), scheduleId))).isFalse();
+        assertThat(queueService.admitBatch(scheduleId, 50).admitted()).isEqualTo(1);
+        assertThat(queueToken(user2)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("X-Queue-Token: 유효한 토큰 → 예매 성공")
+    void valid_queue_token_passes() throws Exception {
+        queueService.enter(user1.getId(), scheduleId);
+        queueService.admitBatch(scheduleId, 50);
+
+        reserve(user1, seatId1, queueToken(user1)).andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("X-Queue-Token: 틀린 토큰 / 남의 토큰 → 401 INVALID_QUEUE_TOKEN, 좌석 유지")
+    void invalid_queue_token_is_rejected() throws Exception {
+        queueService.enter(user1.getId(), scheduleId);
+        queueService.admitBatch(scheduleId, 50);
+
+        reserve(user1, seatId1, "not-a-token")
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_QUEUE_TOKEN"));
+        // 토큰은 사용자 + 스케줄 단위 → 다른 사용자가 쓰면 거절
+        reserve(user2, seatId1, queueToken(user1))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_QUEUE_TOKEN"));
+
+        assertThat(seatRepository.findById(seatId1).orElseThrow().getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("X-Queue-Token 헤더 없음 → 대기열 미사용 스케줄로 보고 통과")
+    void missing_queue_token_passes() throws Exception {
+        reserve(user1, seatId1, null).andExpect(status().isCreated());
+    }
+
+    private String queueToken(User user) {
+        return redisTemplate.opsForValue().get(RedisKeyUtil.tokenKey(user.getId(), scheduleId));
+    }
+
+    private ResultActions reserve(User user, Long seatId, String queueToken) throws Exception {
+        MockHttpServletRequestBuilder request = post("/api/reservations")
+                .header("Authorization", "Bearer " + jwtProvider.createToken(user.getId(), user.getEmail()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ReservationRequest(scheduleId, List.of(seatId))));
+        if (queueToken != null) {
+            request.header("X-Queue-Token", queueToken);
+        }
+        return mockMvc.perform(request);
+    }
+}
@@ -31,6 +31,7 @@ class QueueServiceTest {
     void setUp() {
         // 테스트마다 대기열 초기화
         redisTemplate.delete("queue:schedule:" + SCHEDULE_ID);
+        redisTemplate.delete("active:schedule:" + SCHEDULE_ID);
     }
 
     @Test
@@ -100,4 +101,29 @@ class QueueServiceTest {
         assertThatThrownBy(() -> queueService.issueToken(101L, SCHEDULE_ID))
                 .isInstanceOf(QueueNotReadyException.class);
     }
+
+    @Test
+    @DisplayName("배치 입장 — 대기열 선두부터 입장, 활성 집합 상한(200)까지만 토큰 발급")
+    void batch_admission_bounded_by_active_set() {
+        for (long i = 1; i <= 300; i++) {
+            queueService.enter(i, SCHEDULE_ID);
+        }
+
+        QueueService.AdmissionBatch first = queueService.admitBatch(SCHEDULE_ID, 150);
+        assertThat(first.admitted()).isEqualTo(150);
+        assertThat(first.remaining()).isEqualTo(150);
+
+        // 선두 유저는 토큰 보유, 대기열에서 제거됨
+        assertThat(queueService.getPosition(1L, SCHEDULE_ID).position()).isZero();
+        assertThat(queueService.issueToken(1L, SCHEDULE_ID).token()).isNotNull();
+
+        // 상한 200 → 이번 회차는 50명만 입장
+        QueueService.AdmissionBatch second = queueService.admitBatch(SCHEDULE_ID, 150);
+        assertThat(second.admitted()).isEqualTo(50);
+        assertThat(second.remaining()).isEqualTo(100);
+
+        // 토큰 소비 → 활성 집합에서 빠지므로 1명 추가 입장 가능
+        queueService.consumeToken(1L, SCHEDULE_ID);
+        assertThat(queueService.admitBatch(SCHEDULE_ID, 150).admitted()).isEqualTo(1);
+    }
 }
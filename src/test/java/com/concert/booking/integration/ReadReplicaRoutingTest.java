@@ -0,0 +1,101 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.datasource.ReplicaLagMonitor;
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.config.ReplicationTestContainersConfig;
+import com.concert.booking.service.auth.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "datasource.replica.enabled=true")
+@ActiveProfiles("test")
+@Import(ReplicationTestContainersConfig.class)
+class ReadReplicaRoutingTest {
+
+    private static final String IN_RECOVERY = "SELECT pg_is_in_recovery()";
+
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ReplicaLagMonitor lagMonitor;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        // 스키마 초기화가 replica에 재생될 때까지 대기
+        for (int i = 0; i < 100 && !lagMonitor.isReplicaUsable(); i++) {
+            Thread.sleep(100);
+            lagMonitor.check();
+        }
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션 → replica, 쓰기 트랜잭션 → primary")
+    void routes_read_only_transactions_to_replica() {
+        Boolean readOnlyInRecovery = readOnly.execute(status -> jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class));
+        Boolean readWriteInRecovery = readWrite.execute(status -> jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class));
+
+        assertThat(readOnlyInRecovery).isTrue();
+        assertThat(readWriteInRecovery).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 직후 같은 사용자의 읽기 → primary (read-your-writes), 다른 사용자는 replica")
+    void recent_writer_reads_from_primary() {
+        authenticate(1001L);
+        readWrite.executeWithoutResult(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+        Boolean writerInRecovery = readOnly.execute(status -> jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class));
+
+        authenticate(1002L);
+        Boolean otherInRecovery = readOnly.execute(status -> jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class));
+
+        assertThat(writerInRecovery).isFalse();
+        assertThat(otherInRecovery).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 쓴 사용자(Redis 쓰기 마커)의 읽기도 primary")
+    void writer_on_other_server_reads_from_primary() {
+        Long userId = System.nanoTime();
+        redisTemplate.opsForValue().set(RedisKeyUtil.recentWriteKey(userId), "1", Duration.ofSeconds(5));
+
+        authenticate(userId);
+        Boolean inRecovery = readOnly.execute(status -> jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class));
+
+        assertThat(inRecovery).isFalse();
+    }
+
+    private static void authenticate(Long userId) {
+        CustomUserDetails principal = CustomUserDetails.fromClaims(userId, "user" + userId + "@test.com");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
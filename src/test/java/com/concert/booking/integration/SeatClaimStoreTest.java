@@ -0,0 +1,119 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.service.reservation.SeatClaimResult;
+import com.concert.booking.service.reservation.SeatClaimStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class SeatClaimStoreTest {
+
+    private static final String TOKEN = "claim-token";
+    private static final String OTHER_TOKEN = "other-token";
+
+    @Autowired private SeatClaimStore seatClaimStore;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    private Long scheduleId;
+    private Long seatA;
+    private Long seatB;
+    private Long seatC;
+
+    @BeforeEach
+    void setUp() {
+        // 스크립트는 Redis key만 다루므로 DB 없이 테스트마다 겹치지 않는 ID 사용
+        long base = System.nanoTime();
+        scheduleId = base;
+        seatA = base + 1;
+        seatB = base + 2;
+        seatC = base + 3;
+    }
+
+    @Test
+    @DisplayName("선점 성공: 좌석별 hold key에 토큰 기록 + 좌석 수만큼 재고 차감")
+    void claim_holds_seats_and_decrements_stock() {
+        setStock(5);
+
+        SeatClaimResult result = seatClaimStore.claim(scheduleId, List.of(seatA, seatB), TOKEN);
+
+        assertThat(result.status()).isEqualTo(SeatClaimResult.Status.CLAIMED);
+        assertThat(stock()).isEqualTo("3");
+        assertThat(holder(seatA)).isEqualTo(TOKEN);
+        assertThat(holder(seatB)).isEqualTo(TOKEN);
+    }
+
+    @Test
+    @DisplayName("충돌: 이미 점유된 좌석 ID만 반환하고 어떤 좌석도 점유하지 않으며 재고 유지")
+    void claim_conflict_returns_exact_seat_ids() {
+        setStock(5);
+        redisTemplate.opsForValue().set(RedisKeyUtil.seatHoldKey(seatB), OTHER_TOKEN);
+
+        SeatClaimResult result = seatClaimStore.claim(scheduleId, List.of(seatA, seatB, seatC), TOKEN);
+
+        assertThat(result.status()).isEqualTo(SeatClaimResult.Status.CONFLICT);
+        assertThat(result.conflictedSeatIds()).containsExactly(seatB);
+        assertThat(stock()).isEqualTo("5");
+        assertThat(holder(seatA)).isNull();
+        assertThat(holder(seatB)).isEqualTo(OTHER_TOKEN);
+        assertThat(holder(seatC)).isNull();
+    }
+
+    @Test
+    @DisplayName("재고 부족: 잔여 재고를 반환하고 좌석 점유/재고 차감 없음")
+    void claim_sold_out_returns_remaining_stock() {
+        setStock(1);
+
+        SeatClaimResult result = seatClaimStore.claim(scheduleId, List.of(seatA, seatB), TOKEN);
+
+        assertThat(result.status()).isEqualTo(SeatClaimResult.Status.SOLD_OUT);
+        assertThat(result.remainingStock()).isEqualTo(1);
+        assertThat(stock()).isEqualTo("1");
+        assertThat(holder(seatA)).isNull();
+        assertThat(holder(seatB)).isNull();
+    }
+
+    @Test
+    @DisplayName("선점 해제: 본인 토큰이 남은 좌석만 해제하고 해제한 수만큼 재고 복원")
+    void release_frees_only_own_holds() {
+        setStock(5);
+        seatClaimStore.claim(scheduleId, List.of(seatA, seatB, seatC), TOKEN);
+        assertThat(stock()).isEqualTo("2");
+
+        // seatB: 본인 점유가 만료된 뒤 다른 요청이 다시 선점한 상황
+        redisTemplate.opsForValue().set(RedisKeyUtil.seatHoldKey(seatB), OTHER_TOKEN);
+
+        long released = seatClaimStore.release(scheduleId, List.of(seatA, seatB, seatC), TOKEN);
+
+        assertThat(released).isEqualTo(2);
+        assertThat(stock()).isEqualTo("4");
+        assertThat(holder(seatA)).isNull();
+        assertThat(holder(seatB)).isEqualTo(OTHER_TOKEN);
+        assertThat(holder(seatC)).isNull();
+    }
+
+    private void setStock(int stock) {
+        redisTemplate.opsForValue().set(RedisKeyUtil.stockKey(scheduleId), String.valueOf(stock));
+    }
+
+    private String stock() {
+        return redisTemplate.opsForValue().get(RedisKeyUtil.stockKey(scheduleId));
+    }
+
+    private String holder(Long seatId) {
+        return redisTemplate.opsForValue().get(RedisKeyUtil.seatHoldKey(seatId));
+    }
+}
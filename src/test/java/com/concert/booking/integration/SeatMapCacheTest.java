@@ -0,0 +1,103 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.domain.*;
+import com.concert.booking.repository.*;
+import com.concert.booking.dto.concert.SeatAvailabilityResponse;
+import com.concert.booking.service.concert.ConcertService;
+import com.concert.booking.service.concert.SeatAvailabilityBitmap;
+import com.concert.booking.service.concert.SeatMapSnapshot;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class SeatMapCacheTest {
+
+    @Autowired private ConcertService concertService;
+    @Autowired private ConcertRepository concertRepository;
+    @Autowired private ConcertScheduleRepository concertScheduleRepository;
+    @Autowired private SeatRepository seatRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private SeatAvailabilityBitmap seatAvailabilityBitmap;
+
+    private Long concertId;
+    private Long scheduleId;
+    private Long seatId;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = Concert.create("캐시 테스트 콘서트", "설명", "장소", "아티스트");
+        concertRepository.save(concert);
+        concertId = concert.getId();
+
+        ConcertSchedule schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(7), LocalTime.of(19, 0), 2);
+        concertScheduleRepository.save(schedule);
+        scheduleId = schedule.getId();
+
+        Seat seat = Seat.create(schedule, "R", 1, 1, 100000);
+        seatRepository.save(seat);
+        seatRepository.save(Seat.create(schedule, "R", 1, 2, 100000));
+        seatId = seat.getId();
+    }
+
+    @Test
+    @DisplayName("변경 없으면 동일 스냅샷 재사용, 좌석 상태 변경 커밋 후 새 버전 반영")
+    void seat_map_invalidated_on_seat_change() throws Exception {
+        SeatMapSnapshot first = concertService.getSeats(concertId, scheduleId);
+        SeatMapSnapshot second = concertService.getSeats(concertId, scheduleId);
+        assertThat(second).isSameAs(first);
+        assertThat(statusOf(first, seatId)).isEqualTo("AVAILABLE");
+
+        // 좌석 HOLD 커밋 → 버전 증가
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findById(seatId).orElseThrow().hold());
+
+        SeatMapSnapshot afterHold = concertService.getSeats(concertId, scheduleId);
+        assertThat(afterHold.version()).isGreaterThan(first.version());
+        assertThat(statusOf(afterHold, seatId)).isEqualTo("HELD");
+    }
+
+    @Test
+    @DisplayName("좌석 비트맵: 점유 커밋 후 선검사에서 점유 좌석 반환 + 비트맵 응답에 반영")
+    void seat_bitmap_rejects_taken_seat() {
+        assertThat(seatAvailabilityBitmap.findTaken(scheduleId, List.of(seatId))).isEmpty();
+
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findById(seatId).orElseThrow().hold());
+
+        assertThat(seatAvailabilityBitmap.findTaken(scheduleId, List.of(seatId))).containsExactly(seatId);
+
+        SeatAvailabilityResponse response = concertService.getSeatAvailability(concertId, scheduleId);
+        byte[] bitmap = Base64.getDecoder().decode(response.bitmap());
+        int offset = (int) (seatId - response.baseSeatId());
+        assertThat(response.seatCount()).isEqualTo(2);
+        assertThat(bitmap[offset >> 3] & (0x80 >>> (offset & 7))).isNotZero();
+    }
+
+    private String statusOf(SeatMapSnapshot snapshot, Long seatId) throws Exception {
+        for (JsonNode seat : objectMapper.readTree(snapshot.json())) {
+            if (seat.get("id").asLong() == seatId) {
+                return seat.get("status").asText();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,132 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.consumer.SeatReleaseConsumer;
+import com.concert.booking.domain.*;
+import com.concert.booking.event.ReservationCancelledEvent;
+import com.concert.booking.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 좌석 반환 배치 리스너: 배치 일괄 반환 / 재점유 좌석 보호(NOT EXISTS) / seatIds 없는 이벤트 보완
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class SeatReleaseConsumerTest {
+
+    @Autowired private SeatReleaseConsumer seatReleaseConsumer;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ConcertRepository concertRepository;
+    @Autowired private ConcertScheduleRepository concertScheduleRepository;
+    @Autowired private SeatRepository seatRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private ReservationSeatRepository reservationSeatRepository;
+
+    private User user;
+    private ConcertSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.create("release-" + System.nanoTime() + "@test.com", "password", "반환테스터"));
+
+        Concert concert = Concert.create("반환 테스트 콘서트", "설명", "장소", "아티스트");
+        concertRepository.save(concert);
+        schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(7), LocalTime.of(19, 0), 3);
+        concertScheduleRepository.save(schedule);
+    }
+
+    @Test
+    @DisplayName("배치 1회: 여러 취소 이벤트의 HELD 좌석을 한 번에 반환하고 재고를 복원한 뒤 커밋")
+    void batch_releases_all_held_seats() {
+        Seat seat1 = heldSeat(1);
+        Seat seat2 = heldSeat(2);
+        Reservation r1 = reservation(seat1, ReservationStatus.CANCELLED);
+        Reservation r2 = reservation(seat2, ReservationStatus.EXPIRED);
+        redisTemplate.opsForValue().set(RedisKeyUtil.stockKey(schedule.getId()), "1");
+
+        AtomicInteger acks = new AtomicInteger();
+        seatReleaseConsumer.handleCancelledReservations(List.of(
+                cancelled(r1, List.of(seat1.getId())),
+                cancelled(r2, List.of(seat2.getId()))), acks::incrementAndGet);
+
+        assertThat(acks.get()).isEqualTo(1);
+        assertThat(statusOf(seat1)).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(statusOf(seat2)).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(redisTemplate.opsForValue().get(RedisKeyUtil.stockKey(schedule.getId()))).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이벤트: 다른 PENDING 예매가 다시 점유한 좌석은 반환하지 않음")
+    void late_event_does_not_release_reheld_seat() {
+        Seat seat = heldSeat(1);
+        Reservation expired = reservation(seat, ReservationStatus.EXPIRED);
+        // 반환 후 다른 예매가 재점유한 상태
+        reservation(seat, ReservationStatus.PENDING);
+
+        AtomicInteger acks = new AtomicInteger();
+        seatReleaseConsumer.handleCancelledReservations(
+                List.of(cancelled(expired, List.of(seat.getId()))), acks::incrementAndGet);
+
+        assertThat(acks.get()).isEqualTo(1);
+        assertThat(statusOf(seat)).isEqualTo(SeatStatus.HELD);
+    }
+
+    @Test
+    @DisplayName("seatIds 없는 이벤트(구버전 발행분)는 reservation_seats 조회로 좌석을 찾아 반환")
+    void event_without_seat_ids_falls_back_to_reservation_seats() {
+        Seat seat1 = heldSeat(1);
+        Seat seat2 = heldSeat(2);
+        Reservation cancelled = reservation(seat1, ReservationStatus.CANCELLED);
+        reservationSeatRepository.save(ReservationSeat.create(cancelled, seat2));
+
+        AtomicInteger acks = new AtomicInteger();
+        seatReleaseConsumer.handleCancelledReservations(List.of(cancelled(cancelled, null)), acks::incrementAndGet);
+
+        assertThat(acks.get()).isEqualTo(1);
+        assertThat(statusOf(seat1)).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(statusOf(seat2)).isEqualTo(SeatStatus.AVAILABLE);
+    }
+
+    private Seat heldSeat(int number) {
+        Seat seat = Seat.create(schedule, "R", 1, number, 100000);
+        seat.hold();
+        return seatRepository.save(seat);
+    }
+
+    private Reservation reservation(Seat seat, ReservationStatus status) {
+        Reservation reservation = Reservation.create(user, schedule, 100000, LocalDateTime.now().plusMinutes(5));
+        if (status == ReservationStatus.CANCELLED) {
+            reservation.cancel();
+        } else if (status == ReservationStatus.EXPIRED) {
+            reservation.expire();
+        }
+        reservationRepository.save(reservation);
+        reservationSeatRepository.save(ReservationSeat.create(reservation, seat));
+        return reservation;
+    }
+
+    private ReservationCancelledEvent cancelled(Reservation reservation, List<Long> seatIds) {
+        return new ReservationCancelledEvent(reservation.getId(), user.getId(), schedule.getId(),
+                seatIds, reservation.getTotalAmount(), reservation.getStatus().name());
+    }
+
+    private SeatStatus statusOf(Seat seat) {
+        return seatRepository.findById(seat.getId()).orElseThrow().getStatus();
+    }
+}
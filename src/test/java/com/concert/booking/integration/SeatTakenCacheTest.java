@@ -0,0 +1,80 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.exception.SeatNotAvailableException;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.domain.*;
+import com.concert.booking.repository.*;
+import com.concert.booking.service.concert.SeatTakenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class SeatTakenCacheTest {
+
+    @Autowired private SeatTakenCache seatTakenCache;
+    @Autowired private ConcertRepository concertRepository;
+    @Autowired private ConcertScheduleRepository concertScheduleRepository;
+    @Autowired private SeatRepository seatRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private Long scheduleId;
+    private Long seatId;
+
+    @BeforeEach
+    void setUp() {
+        Concert concert = Concert.create("점유 캐시 테스트 콘서트", "설명", "장소", "아티스트");
+        concertRepository.save(concert);
+
+        ConcertSchedule schedule = ConcertSchedule.create(concert, LocalDate.now().plusDays(7), LocalTime.of(19, 0), 2);
+        concertScheduleRepository.save(schedule);
+        scheduleId = schedule.getId();
+
+        Seat seat = Seat.create(schedule, "R", 1, 1, 100000);
+        seatRepository.save(seat);
+        seatRepository.save(Seat.create(schedule, "R", 1, 2, 100000));
+        seatId = seat.getId();
+    }
+
+    @Test
+    @DisplayName("점유 좌석 네거티브 캐시: HOLD 커밋 후 로컬 거절, Redis 비트맵 확인 시 로컬 기록, 반환 커밋 후 허용")
+    void seat_taken_cache_tracks_hold_and_release() {
+        assertThatCode(() -> seatTakenCache.assertNotTaken(scheduleId, List.of(seatId)))
+                .doesNotThrowAnyException();
+
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findById(seatId).orElseThrow().hold());
+
+        // 같은 노드의 HOLD 커밋 → 로컬 캐시
+        assertThat(seatTakenCache.isTakenLocally(List.of(seatId))).isTrue();
+
+        // 로컬 미스(다른 노드 점유 상황) → Redis 비트맵으로 거절 + 로컬 기록
+        seatTakenCache.clear();
+        assertThatThrownBy(() -> seatTakenCache.assertNotTaken(scheduleId, List.of(seatId)))
+                .isInstanceOf(SeatNotAvailableException.class);
+        assertThat(seatTakenCache.isTakenLocally(List.of(seatId))).isTrue();
+
+        // 반환 커밋 → 로컬/비트맵 모두 해제
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findById(seatId).orElseThrow().release());
+
+        assertThat(seatTakenCache.isTakenLocally(List.of(seatId))).isFalse();
+        assertThatCode(() -> seatTakenCache.assertNotTaken(scheduleId, List.of(seatId)))
+                .doesNotThrowAnyException();
+    }
+}
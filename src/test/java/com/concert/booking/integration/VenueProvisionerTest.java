@@ -0,0 +1,68 @@
+package com.concert.booking.integration;
+
+import com.concert.booking.common.util.RedisKeyUtil;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.domain.Seat;
+import com.concert.booking.dto.admin.VenueProvisionRequest;
+import com.concert.booking.dto.admin.VenueProvisionResponse;
+import com.concert.booking.dto.reservation.ReservationRequest;
+import com.concert.booking.repository.SeatRepository;
+import com.concert.booking.repository.UserRepository;
+import com.concert.booking.service.reservation.ReservationService;
+import com.concert.booking.service.venue.VenueProvisioner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainersConfig.class)
+class VenueProvisionerTest {
+
+    @Autowired private VenueProvisioner venueProvisioner;
+    @Autowired private SeatRepository seatRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationService reservationService;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    @DisplayName("COPY 프로비저닝: 좌석 ID 연속 구간 + Redis 재고/비트맵 + 회원 생성, 생성 좌석 예매 가능")
+    void provision_creates_contiguous_seats_and_users() {
+        VenueProvisionRequest request = new VenueProvisionRequest("대형 공연장 테스트", List.of(
+                new VenueProvisionRequest.Section("FLOOR", 20, 50, 150000),
+                new VenueProvisionRequest.Section("S1", 40, 60, 90000)
+        ), 500);
+
+        VenueProvisionResponse response = venueProvisioner.provision(request);
+
+        // 좌석: 3,400석, ID 연속 (비트맵 offset 전제)
+        List<Seat> seats = seatRepository.findByScheduleId(response.scheduleId());
+        assertThat(seats).hasSize(3400);
+        long minId = seats.stream().mapToLong(Seat::getId).min().orElseThrow();
+        long maxId = seats.stream().mapToLong(Seat::getId).max().orElseThrow();
+        assertThat(minId).isEqualTo(response.firstSeatId());
+        assertThat(maxId - minId + 1).isEqualTo(3400);
+
+        // Redis 재고 + 빈 비트맵
+        assertThat(redisTemplate.opsForValue().get(RedisKeyUtil.stockKey(response.scheduleId()))).isEqualTo("3400");
+        assertThat(redisTemplate.hasKey(RedisKeyUtil.seatBitmapKey(response.scheduleId()))).isTrue();
+
+        // 회원
+        String prefix = "load-" + response.scheduleId();
+        assertThat(userRepository.existsByEmail(prefix + "-0@load.test")).isTrue();
+        assertThat(userRepository.existsByEmail(prefix + "-499@load.test")).isTrue();
+
+        // COPY로 만든 좌석도 JPA 경로로 예매 가능
+        Long userId = userRepository.findByEmail(prefix + "-0@load.test").orElseThrow().getId();
+        reservationService.reserve(userId, new ReservationRequest(response.scheduleId(), List.of(maxId)));
+        assertThat(seatRepository.findById(maxId).orElseThrow().getStatus().name()).isEqualTo("HELD");
+    }
+}
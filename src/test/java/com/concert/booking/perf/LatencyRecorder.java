@@ -0,0 +1,54 @@
+package com.concert.booking.perf;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 요청별 응답 시간(ns) 수집 → 백분위 계산 (상한 초과분은 건수만 집계)
+class LatencyRecorder {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong success = new AtomicLong();
+
+    LatencyRecorder(int capacity) {
+        this.samples = new AtomicLongArray(capacity);
+    }
+
+    void record(long nanos, boolean ok) {
+        long index = count.getAndIncrement();
+        if (index < samples.length()) {
+            samples.set((int) index, nanos);
+        }
+        if (ok) {
+            success.incrementAndGet();
+        }
+    }
+
+    long count() {
+        return count.get();
+    }
+
+    long success() {
+        return success.get();
+    }
+
+    // p50/p95/p99 (ms)
+    double[] percentilesMillis() {
+        int size = (int) Math.min(count.get(), samples.length());
+        if (size == 0) {
+            return new double[]{0, 0, 0};
+        }
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        return new double[]{at(sorted, 0.50), at(sorted, 0.95), at(sorted, 0.99)};
+    }
+
+    private static double at(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,57 @@
+package com.concert.booking.perf;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// DB 락 대기 샘플링: 50ms마다 pg_locks에서 미획득(granted = false) 락 수 조회
+class LockWaitSampler {
+
+    record Result(int max, double average) {
+    }
+
+    private static final long INTERVAL_MILLIS = 50;
+
+    private final Connection connection;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private int max;
+    private long total;
+    private long samples;
+
+    LockWaitSampler(Connection connection) {
+        this.connection = connection;
+        this.thread = Thread.ofPlatform().daemon().name("perf-lock-sampler").start(this::sample);
+    }
+
+    private void sample() {
+        try (Statement statement = connection.createStatement()) {
+            while (running) {
+                try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM pg_locks WHERE NOT granted")) {
+                    rs.next();
+                    int waiting = rs.getInt(1);
+                    max = Math.max(max, waiting);
+                    total += waiting;
+                    samples++;
+                }
+                Thread.sleep(INTERVAL_MILLIS);
+            }
+        } catch (SQLException | InterruptedException e) {
+            // 측정 종료 또는 커넥션 오류 → 수집한 값까지만 사용
+        }
+    }
+
+    Result stop() {
+        running = false;
+        try {
+            thread.join();
+            connection.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (SQLException ignored) {
+            // 종료 시 커넥션 오류는 결과에 영향 없음
+        }
+        return new Result(max, samples == 0 ? 0 : (double) total / samples);
+    }
+}
@@ -0,0 +1,76 @@
+package com.concert.booking.perf;
+
+import com.concert.booking.common.jwt.JwtProvider;
+import com.concert.booking.domain.User;
+import com.concert.booking.dto.admin.VenueProvisionRequest;
+import com.concert.booking.dto.admin.VenueProvisionResponse;
+import com.concert.booking.repository.UserRepository;
+import com.concert.booking.service.venue.VenueProvisioner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+// 시나리오별 테스트 데이터 (HTTP 회원가입/로그인 대신 저장소 + JwtProvider로 직접 생성)
+class PerfFixture {
+
+    record PerfUser(Long id, String token) {
+    }
+
+    record PerfSchedule(Long concertId, Long scheduleId, List<Long> seatIds) {
+    }
+
+    private static final int SEATS_PER_ROW = 50;
+
+    private final VenueProvisioner venueProvisioner;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtProvider jwtProvider;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @SuppressWarnings("unchecked")
+    PerfFixture(ApplicationContext context) {
+        this.venueProvisioner = context.getBean(VenueProvisioner.class);
+        this.userRepository = context.getBean(UserRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.jwtProvider = context.getBean(JwtProvider.class);
+        this.redisTemplate = context.getBean("redisTemplate", RedisTemplate.class);
+    }
+
+    // 전략 간 Redis 공유 → 이전 실행의 재고/홀드 key 제거 (DB는 컨텍스트마다 새 컨테이너)
+    void flushRedis() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    List<PerfUser> users(int count, String prefix) {
+        // BCrypt는 요청당 수십 ms → 해시 1회 생성 후 재사용
+        String password = passwordEncoder.encode("password123");
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.create(prefix + "-" + i + "@perf.test", password, prefix + i));
+        }
+        userRepository.saveAll(users);
+        return users.stream()
+                .map(user -> new PerfUser(user.getId(), jwtProvider.createToken(user.getId(), user.getEmail())))
+                .toList();
+    }
+
+    // COPY 프로비저너로 좌석 생성 (좌석 ID 연속 구간)
+    PerfSchedule schedule(String name, int seatCount) {
+        int seatsPerRow = Math.min(seatCount, SEATS_PER_ROW);
+        int rows = (seatCount + seatsPerRow - 1) / seatsPerRow;
+        VenueProvisionResponse response = venueProvisioner.provision(new VenueProvisionRequest(name,
+                List.of(new VenueProvisionRequest.Section("R", rows, seatsPerRow, 100000)), 0));
+        List<Long> seatIds = LongStream.range(response.firstSeatId(), response.firstSeatId() + response.seatCount())
+                .boxed()
+                .toList();
+        return new PerfSchedule(response.concertId(), response.scheduleId(), seatIds);
+    }
+}
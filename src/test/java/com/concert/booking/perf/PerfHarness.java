@@ -0,0 +1,343 @@
+package com.concert.booking.perf;
+
+import com.concert.booking.ConcertBookingApplication;
+import com.concert.booking.config.TestContainersConfig;
+import com.concert.booking.perf.PerfFixture.PerfSchedule;
+import com.concert.booking.perf.PerfFixture.PerfUser;
+import com.concert.booking.perf.PerfReport.ScenarioResult;
+import com.concert.booking.perf.PerfReport.StrategyResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 전략별 부하 비교 하네스 (./gradlew perf)
+// - 전략마다 앱을 새로 기동 (TestContainersConfig: PostgreSQL은 컨텍스트마다 새 컨테이너, Redis/Kafka는 공유)
+// - 가상 스레드 HTTP 부하 생성기로 k6 시나리오 A/B/C + 대형 공연장 시나리오 실행
+// - 처리량, p50/p95/p99, 초과 판매 건수, DB 락 대기를 JSON 리포트로 기록
+public class PerfHarness {
+
+    private static final int MAX_SAMPLES = 2_000_000;
+
+    private final PerfSettings settings;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String baseUrl;
+    private PerfFixture fixture;
+    private MeterRegistry meterRegistry;
+    private JdbcConnectionDetails jdbc;
+
+    PerfHarness(PerfSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        PerfSettings settings = PerfSettings.fromSystemProperties();
+        // Redis/Kafka 컨테이너 기동 + 접속 정보 시스템 프로퍼티 등록 (static 초기화)
+        Class.forName(TestContainersConfig.class.getName());
+
+        PerfHarness harness = new PerfHarness(settings);
+        List<StrategyResult> results = new ArrayList<>();
+        for (String strategy : settings.strategies()) {
+            results.add(harness.runStrategy(strategy));
+        }
+
+        PerfReport report = new PerfReport(Instant.now(), System.getProperty("java.version"),
+                Runtime.getRuntime().availableProcessors(), results);
+        writeReport(report, settings.reportFile());
+        printSummary(report);
+        System.exit(0);
+    }
+
+    StrategyResult runStrategy(String strategy) throws Exception {
+        System.out.printf("%n[perf] 전략: %s%n", strategy);
+        try (ConfigurableApplicationContext context = SpringApplication.from(ConcertBookingApplication::main)
+                .with(TestContainersConfig.class)
+                .run("--spring.profiles.active=test",
+                        "--reservation.strategy=" + strategy,
+                        "--server.port=0",
+                        "--logging.level.root=WARN")
+                .getApplicationContext()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+            fixture = new PerfFixture(context);
+            meterRegistry = context.getBean(MeterRegistry.class);
+            jdbc = context.getBean(JdbcConnectionDetails.class);
+            fixture.flushRedis();
+
+            int userCount = Math.max(Math.max(settings.vus(), settings.mixedVus()), settings.venueUsers());
+            List<PerfUser> users = fixture.users(userCount, "perf-" + strategy);
+
+            List<ScenarioResult> scenarios = new ArrayList<>();
+            scenarios.add(hotSeat(users));
+            scenarios.add(distinctSeats(users));
+            scenarios.addAll(mixed(users));
+            scenarios.add(largeVenue(users));
+            return new StrategyResult(strategy, scenarios);
+        }
+    }
+
+    // Scenario A: VU 전원이 같은 좌석 1개 동시 예매 → 1명만 성공
+    private ScenarioResult hotSeat(List<PerfUser> users) throws Exception {
+        PerfSchedule schedule = fixture.schedule("scenario-a", 50);
+        Long seatId = schedule.seatIds().get(0);
+        return runOnce("A-hot-seat", schedule, users.subList(0, settings.vus()),
+                (user, index) -> List.of(seatId));
+    }
+
+    // Scenario B: VU마다 서로 다른 좌석 예매 → 전원 성공
+    private ScenarioResult distinctSeats(List<PerfUser> users) throws Exception {
+        PerfSchedule schedule = fixture.schedule("scenario-b", settings.vus());
+        return runOnce("B-distinct-seats", schedule, users.subList(0, settings.vus()),
+                (user, index) -> List.of(schedule.seatIds().get(index)));
+    }
+
+    // 대형 공연장: 앞 10% 구역에 인접 2석 예매 집중
+    private ScenarioResult largeVenue(List<PerfUser> users) throws Exception {
+        PerfSchedule schedule = fixture.schedule("large-venue", settings.venueSeats());
+        int hotZone = Math.max(2, schedule.seatIds().size() / 10);
+        return runOnce("large-venue", schedule, users.subList(0, settings.venueUsers()), (user, index) -> {
+            int start = ThreadLocalRandom.current().nextInt(hotZone - 1);
+            return List.of(schedule.seatIds().get(start), schedule.seatIds().get(start + 1));
+        });
+    }
+
+    // 사용자당 1회 예매, 시작 신호로 동시 출발
+    private ScenarioResult runOnce(String name, PerfSchedule schedule, List<PerfUser> users,
+                                   SeatPicker picker) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder(users.size());
+        CountDownLatch ready = new CountDownLatch(1);
+
+        Measurement measurement = startMeasurement();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users.size(); i++) {
+                PerfUser user = users.get(i);
+                List<Long> seatIds = picker.pick(user, i);
+                executor.submit(() -> {
+                    ready.await();
+                    reserve(recorder, user, schedule.scheduleId(), seatIds);
+                    return null;
+                });
+            }
+            ready.countDown();
+        }
+        return measurement.finish(name, "reserve", recorder, oversold(schedule.scheduleId()));
+    }
+
+    // Scenario C: 읽기 70% / 쓰기 30% (쓰기는 80% 확률로 인기 좌석 20%), 요청 간 100ms 대기
+    private List<ScenarioResult> mixed(List<PerfUser> users) throws Exception {
+        PerfSchedule schedule = fixture.schedule("scenario-c", 50);
+        List<Long> seatIds = schedule.seatIds();
+        int hotCount = Math.max(1, seatIds.size() / 5);
+        String seatsUrl = baseUrl + "/api/concerts/" + schedule.concertId() + "/schedules/" + schedule.scheduleId() + "/seats";
+
+        LatencyRecorder reads = new LatencyRecorder(MAX_SAMPLES);
+        LatencyRecorder writes = new LatencyRecorder(MAX_SAMPLES);
+        long deadline = System.nanoTime() + settings.mixedDuration().toNanos();
+
+        Measurement measurement = startMeasurement();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (PerfUser user : users.subList(0, settings.mixedVus())) {
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        if (random.nextDouble() < 0.7) {
+                            get(reads, user, seatsUrl);
+                        } else {
+                            Long seatId = random.nextDouble() < 0.8
+                                    ? seatIds.get(random.nextInt(hotCount))
+                                    : seatIds.get(hotCount + random.nextInt(seatIds.size() - hotCount));
+                            reserve(writes, user, schedule.scheduleId(), List.of(seatId));
+                        }
+                        Thread.sleep(100);
+                    }
+                    return null;
+                });
+            }
+        }
+        long oversold = oversold(schedule.scheduleId());
+        return List.of(
+                measurement.finish("C-mixed", "read", reads, 0),
+                measurement.finish("C-mixed", "reserve", writes, oversold));
+    }
+
+    private void reserve(LatencyRecorder recorder, PerfUser user, Long scheduleId, List<Long> seatIds) {
+        String body = "{\"scheduleId\":" + scheduleId + ",\"seatIds\":["
+                + seatIds.stream().map(String::valueOf).collect(Collectors.joining(",")) + "]}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/reservations"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + user.token())
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        send(recorder, request, 201);
+    }
+
+    private void get(LatencyRecorder recorder, PerfUser user, String url) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + user.token())
+                .GET()
+                .build();
+        send(recorder, request, 200);
+    }
+
+    private void send(LatencyRecorder recorder, HttpRequest request, int expectedStatus) {
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            ok = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == expectedStatus;
+        } catch (Exception e) {
+            ok = false;
+        }
+        recorder.record(System.nanoTime() - start, ok);
+    }
+
+    // 같은 좌석이 유효한 예매(PENDING/CONFIRMED) 2건 이상에 매핑된 경우 = 초과 판매
+    private long oversold(Long scheduleId) throws SQLException {
+        String sql = """
+                SELECT COUNT(*) FROM (
+                    SELECT rs.seat_id FROM reservation_seats rs
+                    JOIN reservations r ON r.id = rs.reservation_id
+                    WHERE r.schedule_id = ? AND r.status IN ('PENDING', 'CONFIRMED')
+                    GROUP BY rs.seat_id HAVING COUNT(*) > 1
+                ) oversold
+                """;
+        try (Connection connection = connect(); PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, scheduleId);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    // 앱 커넥션 풀과 별도 커넥션 (측정이 풀 경합에 끼어들지 않도록)
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(jdbc.getJdbcUrl(), jdbc.getUsername(), jdbc.getPassword());
+    }
+
+    private Measurement startMeasurement() throws SQLException {
+        return new Measurement(new LockWaitSampler(connect()), lockAcquireSnapshot(), System.nanoTime());
+    }
+
+    // lock.acquire.duration (ReservationMetrics) 전체 합계: [count, totalMillis]
+    private double[] lockAcquireSnapshot() {
+        double count = 0;
+        double totalMillis = 0;
+        for (Timer timer : meterRegistry.find("lock.acquire.duration").timers()) {
+            count += timer.count();
+            totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+        }
+        return new double[]{count, totalMillis};
+    }
+
+    private final class Measurement {
+
+        private final LockWaitSampler sampler;
+        private final double[] lockBefore;
+        private final long startNanos;
+        private LockWaitSampler.Result lockWaits;
+        private long endNanos;
+
+        Measurement(LockWaitSampler sampler, double[] lockBefore, long startNanos) {
+            this.sampler = sampler;
+            this.lockBefore = lockBefore;
+            this.startNanos = startNanos;
+        }
+
+        // 같은 측정 구간의 여러 결과(C의 읽기/쓰기)는 첫 호출 시점으로 종료
+        ScenarioResult finish(String scenario, String operation, LatencyRecorder recorder, long oversold) {
+            if (lockWaits == null) {
+                endNanos = System.nanoTime();
+                lockWaits = sampler.stop();
+            }
+            double seconds = (endNanos - startNanos) / 1_000_000_000.0;
+            double[] lockAfter = lockAcquireSnapshot();
+            long lockCount = (long) (lockAfter[0] - lockBefore[0]);
+            double lockMean = lockCount == 0 ? 0 : (lockAfter[1] - lockBefore[1]) / lockCount;
+            double[] p = recorder.percentilesMillis();
+            return new ScenarioResult(scenario, operation, recorder.count(), recorder.success(),
+                    recorder.count() - recorder.success(), seconds, recorder.count() / seconds,
+                    p[0], p[1], p[2], oversold, lockWaits.max(), lockWaits.average(), lockCount, lockMean);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SeatPicker {
+        List<Long> pick(PerfUser user, int index);
+    }
+
+    private static void writeReport(PerfReport report, File file) throws Exception {
+        file.getParentFile().mkdirs();
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(file, report);
+        System.out.printf("%n[perf] 리포트: %s%n", file.getAbsolutePath());
+    }
+
+    private static void printSummary(PerfReport report) {
+        System.out.printf("%n%-12s %-17s %-8s %8s %8s %9s %8s %8s %8s %9s %9s%n",
+                "strategy", "scenario", "op", "requests", "success", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "oversold", "lockWait");
+        for (StrategyResult strategy : report.strategies()) {
+            for (ScenarioResult r : strategy.scenarios()) {
+                System.out.printf("%-12s %-17s %-8s %8d %8d %9.1f %8.1f %8.1f %8.1f %9d %9d%n",
+                        strategy.strategy(), r.scenario(), r.operation(), r.requests(), r.success(), r.throughput(),
+                        r.p50Millis(), r.p95Millis(), r.p99Millis(), r.oversold(), r.maxLockWaiters());
+            }
+        }
+    }
+
+    record PerfSettings(
+            List<String> strategies,
+            int vus,
+            int mixedVus,
+            Duration mixedDuration,
+            int venueSeats,
+            int venueUsers,
+            File reportFile
+    ) {
+
+        static PerfSettings fromSystemProperties() {
+            return new PerfSettings(
+                    Arrays.asList(System.getProperty("perf.strategies", "pessimistic,optimistic,distributed").split(",")),
+                    Integer.getInteger("perf.vus", 100),
+                    Integer.getInteger("perf.mixed-vus", 200),
+                    Duration.ofSeconds(Integer.getInteger("perf.mixed-duration", 30)),
+                    Integer.getInteger("perf.venue-seats", 20_000),
+                    Integer.getInteger("perf.venue-users", 2_000),
+                    new File(System.getProperty("perf.report", "build/reports/perf/perf-report.json")));
+        }
+    }
+}
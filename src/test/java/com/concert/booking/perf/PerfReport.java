@@ -0,0 +1,38 @@
+package com.concert.booking.perf;
+
+import java.time.Instant;
+import java.util.List;
+
+// 부하 하네스 결과 (build/reports/perf/perf-report.json)
+record PerfReport(
+        Instant startedAt,
+        String javaVersion,
+        int availableProcessors,
+        List<StrategyResult> strategies
+) {
+
+    record StrategyResult(
+            String strategy,
+            List<ScenarioResult> scenarios
+    ) {
+    }
+
+    record ScenarioResult(
+            String scenario,
+            String operation,
+            long requests,
+            long success,
+            long failed,
+            double durationSeconds,
+            double throughput,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            long oversold,
+            int maxLockWaiters,
+            double avgLockWaiters,
+            long lockAcquireCount,
+            double lockAcquireMeanMillis
+    ) {
+    }
+}